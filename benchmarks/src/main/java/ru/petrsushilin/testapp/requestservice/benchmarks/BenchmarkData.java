@@ -0,0 +1,42 @@
+package ru.petrsushilin.testapp.requestservice.benchmarks;
+
+import ru.petrsushilin.testapp.requestservice.requests.Request;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.users.User;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixtures shared by benchmarks, shaped like rows returned by the listing queries.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+final class BenchmarkData {
+    private BenchmarkData() {
+    }
+
+    static List<Request> requests(int count, int descriptionLength) {
+        List<Request> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setId((long) (i % 100));
+            user.setLogin("user" + i);
+            user.setName("Petr");
+            user.setSurname("Sushilin");
+
+            Request request = new Request();
+            request.setId((long) i);
+            request.setCreatedAt(LocalDate.of(2024, 5, 5).plusDays(i % 365));
+            request.setUser(user);
+            request.setStage(Stage.SUBMITTED);
+            request.setDescription("d".repeat(descriptionLength));
+            request.setVersion(0L);
+            requests.add(request);
+        }
+        return requests;
+    }
+}
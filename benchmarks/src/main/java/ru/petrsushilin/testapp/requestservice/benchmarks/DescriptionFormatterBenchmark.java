@@ -0,0 +1,50 @@
+package ru.petrsushilin.testapp.requestservice.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import ru.petrsushilin.testapp.requestservice.requests.DescriptionFormatter;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the operator description formatter with the stream based implementation it replaced.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DescriptionFormatterBenchmark {
+    @Param({"16", "256", "4096"})
+    private int length;
+
+    private final DescriptionFormatter descriptionFormatter = new DescriptionFormatter();
+    private String description;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder(length);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < length; i++)
+            builder.append((char) random.nextInt('a', 'z' + 1));
+        description = builder.toString();
+    }
+
+    @Benchmark
+    public String legacy() {
+        return description.chars().mapToObj(c -> (char) c + "-")
+                .collect(Collectors.joining())
+                .replaceAll("-$", "");
+    }
+
+    @Benchmark
+    public String formatter() {
+        return descriptionFormatter.addDashes(description);
+    }
+}
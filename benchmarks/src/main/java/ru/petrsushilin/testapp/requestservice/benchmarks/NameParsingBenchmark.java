@@ -0,0 +1,67 @@
+package ru.petrsushilin.testapp.requestservice.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import ru.petrsushilin.testapp.requestservice.users.PersonNameQuery;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Measures parsing of the full name path variable used by person search.
+ * {@code personNameQuery} is the current implementation, {@code split} is the former one
+ * and the other methods are candidates which also tolerate repeated whitespace.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NameParsingBenchmark {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Param({"Petr", "Petr Sushilin", "  Petr   Sushilin  "})
+    private String fullName;
+
+    @Benchmark
+    public PersonNameQuery personNameQuery() {
+        return PersonNameQuery.parse(fullName);
+    }
+
+    @Benchmark
+    public String[] split() {
+        String[] nameParts = fullName.split(" ");
+        String namePart1 = nameParts[0];
+        String namePart2 = nameParts.length > 1 ? nameParts[1] : "";
+        return new String[]{namePart1, namePart2};
+    }
+
+    @Benchmark
+    public String[] splitWhitespacePattern() {
+        String[] nameParts = WHITESPACE.split(fullName.trim());
+        String namePart1 = nameParts[0];
+        String namePart2 = nameParts.length > 1 ? nameParts[1] : "";
+        return new String[]{namePart1, namePart2};
+    }
+
+    @Benchmark
+    public String[] scan() {
+        String[] nameParts = {"", ""};
+        int part = 0;
+        int start = -1;
+        for (int i = 0; i <= fullName.length() && part < 2; i++) {
+            boolean whitespace = i == fullName.length() || Character.isWhitespace(fullName.charAt(i));
+            if (!whitespace && start < 0) {
+                start = i;
+            } else if (whitespace && start >= 0) {
+                nameParts[part++] = fullName.substring(start, i);
+                start = -1;
+            }
+        }
+        return nameParts;
+    }
+}
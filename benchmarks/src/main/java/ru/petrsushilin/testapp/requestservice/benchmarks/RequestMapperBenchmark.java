@@ -0,0 +1,49 @@
+package ru.petrsushilin.testapp.requestservice.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import ru.petrsushilin.testapp.requestservice.requests.Request;
+import ru.petrsushilin.testapp.requestservice.requests.RequestMapper;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestResponseDTO;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures mapping of request entities to response DTOs as done by every listing.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestMapperBenchmark {
+    @Param({"5", "100"})
+    private int pageSize;
+
+    private Request request;
+    private List<Request> page;
+
+    @Setup
+    public void setUp() {
+        page = BenchmarkData.requests(pageSize, 64);
+        request = page.get(0);
+    }
+
+    @Benchmark
+    public RequestResponseDTO mapOne() {
+        return RequestMapper.INSTANCE.toRequestResponseDTO(request);
+    }
+
+    @Benchmark
+    public List<RequestResponseDTO> mapPage() {
+        return page.stream()
+                .map(RequestMapper.INSTANCE::toRequestResponseDTO)
+                .collect(Collectors.toList());
+    }
+}
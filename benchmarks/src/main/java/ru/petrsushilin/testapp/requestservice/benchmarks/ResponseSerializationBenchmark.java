@@ -0,0 +1,61 @@
+package ru.petrsushilin.testapp.requestservice.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.petrsushilin.testapp.requestservice.requests.RequestMapper;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestResponseDTO;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures Jackson serialization of listing responses with the same mapper settings Spring Boot applies.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+    @Param({"5", "100"})
+    private int pageSize;
+
+    @Param({"64", "1024"})
+    private int descriptionLength;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter listWriter;
+    private List<RequestResponseDTO> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, RequestResponseDTO.class));
+        page = BenchmarkData.requests(pageSize, descriptionLength).stream()
+                .map(RequestMapper.INSTANCE::toRequestResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] objectMapper() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] typedWriter() throws JsonProcessingException {
+        return listWriter.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,27 @@
+package ru.petrsushilin.testapp.requestservice.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import ru.petrsushilin.testapp.requestservice.requests.DescriptionFormatter;
+
+/**
+ * WebFlux and R2DBC variant of the request API, runs side by side with the blocking service on the same schema.
+ * DTOs, stage transition rules and person name parsing come from the RequestService jar.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@SpringBootApplication
+public class ReactiveRequestServiceApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveRequestServiceApplication.class, args);
+    }
+
+    @Bean
+    public DescriptionFormatter descriptionFormatter() {
+        return new DescriptionFormatter();
+    }
+}
@@ -0,0 +1,52 @@
+package ru.petrsushilin.testapp.requestservice.reactive;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+/**
+ * Stateless HTTP basic with the same role checks as {@code @Secured} of the blocking controller.
+ * Method security of WebFlux needs publisher return types, so roles are checked by path here.
+ * Password hashing is disabled for the same reason as in the load test profile of the blocking service:
+ * the in-memory user would be upgraded to bcrypt and every compared call would pay for hashing.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Configuration
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+    private static final String USER = "USER";
+    private static final String OPERATOR = "OPERATOR";
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+                .csrf().disable()
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(exchanges -> exchanges
+                        .pathMatchers("/actuator/**").permitAll()
+                        .pathMatchers(HttpMethod.POST, "/request/create", "/request/change-description", "/request/send")
+                        .hasRole(USER)
+                        .pathMatchers(HttpMethod.GET, "/request/list/**").hasRole(USER)
+                        .pathMatchers(HttpMethod.POST, "/request/approve", "/request/reject").hasRole(OPERATOR)
+                        .pathMatchers(HttpMethod.GET, "/request/all-requests/**", "/request/requests/**").hasRole(OPERATOR)
+                        .pathMatchers(HttpMethod.GET, "/request/*").hasAnyRole(USER, OPERATOR)
+                        .anyExchange().denyAll())
+                .httpBasic().and()
+                .build();
+    }
+
+    @Bean
+    @SuppressWarnings("deprecation")
+    public PasswordEncoder passwordEncoder() {
+        return NoOpPasswordEncoder.getInstance();
+    }
+}
@@ -0,0 +1,34 @@
+package ru.petrsushilin.testapp.requestservice.reactive.handler;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
+import ru.petrsushilin.testapp.requestservice.global.exceptions.ChangeStatusException;
+import ru.petrsushilin.testapp.requestservice.global.exceptions.IdentifierMismatchException;
+import ru.petrsushilin.testapp.requestservice.global.exceptions.RequestConflictException;
+import ru.petrsushilin.testapp.requestservice.global.handler.GlobalAppErrorEntity;
+
+/**
+ * Maps exceptions to the same statuses and body as the global handler of the blocking service.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+    @ExceptionHandler({IdentifierMismatchException.class, ChangeStatusException.class,
+            IllegalArgumentException.class, ServerWebInputException.class})
+    public ResponseEntity<GlobalAppErrorEntity> handleBadRequest(RuntimeException ex) {
+        return new ResponseEntity<>(new GlobalAppErrorEntity(
+                HttpStatus.BAD_REQUEST.value(), ex.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(RequestConflictException.class)
+    public ResponseEntity<GlobalAppErrorEntity> handleRequestConflictException(RequestConflictException ex) {
+        return new ResponseEntity<>(new GlobalAppErrorEntity(
+                HttpStatus.CONFLICT.value(), ex.getMessage()), HttpStatus.CONFLICT);
+    }
+}
@@ -0,0 +1,238 @@
+package ru.petrsushilin.testapp.requestservice.reactive.requests;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.petrsushilin.testapp.requestservice.global.exceptions.ChangeStatusException;
+import ru.petrsushilin.testapp.requestservice.global.exceptions.IdentifierMismatchException;
+import ru.petrsushilin.testapp.requestservice.global.exceptions.RequestConflictException;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestCreationDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestMessageDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestResponseDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestSetStageDTO;
+
+import java.util.List;
+
+/**
+ * The reactive controller for handling requests methods, paths, bodies and statuses are the same as in the blocking one.
+ * Roles are checked by {@code ReactiveSecurityConfig}.
+ * This .class using for:
+ * - create new request by user.
+ * - change description of request before sending for confirm by user.
+ * - send request to operator for confirm by user.
+ * - approve and reject by operator.
+ * - searching request by ID by user and operator.
+ * - searching all requests created by the user, all requests with status "submitted" and requests by full name,
+ *   paged by 5 elements and ordered by date_created in ascending or descending order.
+ * - streaming all requests with status "submitted" to operator as newline delimited JSON.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@RestController
+@RequestMapping("/request")
+public class ReactiveRequestController {
+    private static final String HAS_MORE_HEADER = "X-Has-More";
+    private static final String OPERATOR_ROLE = "ROLE_OPERATOR";
+
+    private final ReactiveRequestService requestService;
+
+    @Autowired
+    public ReactiveRequestController(ReactiveRequestService requestService) {
+        this.requestService = requestService;
+    }
+
+    /*------------------------------------------ HIDE ------------------------------------------*/
+
+    private static Mono<ResponseEntity<List<RequestResponseDTO>>> toResponse(Mono<Slice<RequestResponseDTO>> requests) {
+        return requests.map(slice -> ResponseEntity
+                .status(HttpStatus.OK)
+                .header(HAS_MORE_HEADER, String.valueOf(slice.hasNext()))
+                .body(slice.getContent()));
+    }
+
+    /*------------------------------------------ USER ------------------------------------------*/
+
+    /**
+     * Handle using for create new request and response created request with status "draft".
+     * Required Role: User.
+     * Required HTTP method: POST.
+     * Correct response status code: 201 CREATED.
+     * @param requestCreationDTO consists of {@link Long} as authorID whose request will be created, {@link String} as description of request.
+     * @return {@link RequestResponseDTO}
+     * @throws IdentifierMismatchException if authorID not found.
+     */
+    @PostMapping("/create")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<RequestResponseDTO> createRequest(@RequestBody RequestCreationDTO requestCreationDTO) {
+        return requestService.createRequest(requestCreationDTO);
+    }
+
+    /**
+     * Handle using for searching all requests by userID with any status.
+     * It can be sorted by date_created in ascending or descending order.
+     * Response paged by 5 elements, header "X-Has-More" tells whether the next page exists.
+     * Required Role: User.
+     * Required HTTP method: GET.
+     * Correct response status code: 200 OK.
+     * @param userID consists of {@link Long} the ID of user whose list of requests will be searching.
+     * @param sort consists of {@link String} type of sorting: "default" as ASC or "reverse" as DESC.
+     * @param page consists of {@link int} number of page for pagination.
+     * @return {@link List} of {@link RequestResponseDTO}
+     * @throws IllegalArgumentException if page not correct.
+     */
+    @GetMapping("/list/id{userID}")
+    public Mono<ResponseEntity<List<RequestResponseDTO>>> getUserRequests(@PathVariable("userID") Long userID,
+                                                                          @RequestParam(value = "sort", defaultValue = "default") String sort,
+                                                                          @RequestParam(value = "page", defaultValue = "0") int page) {
+        return toResponse(requestService.getUserRequests(userID, sort, page));
+    }
+
+    /**
+     * Handle using for change description of request.
+     * Required correct params: it uses check of authorID and request presence.
+     * Required Role: User.
+     * Required HTTP method: POST.
+     * Correct response status code: 200 OK.
+     * @param requestMessageDTO consists of {@link Long} as requestID, {@link Long} as authorID, {@link String} as description of request.
+     * @return {@link RequestResponseDTO}
+     * @throws IdentifierMismatchException if request not found or authorID not equals to request authorID.
+     */
+    @PostMapping("/change-description")
+    public Mono<RequestResponseDTO> updateRequestMessage(@RequestBody RequestMessageDTO requestMessageDTO) {
+        return requestService.updateRequestMessage(requestMessageDTO);
+    }
+
+    /**
+     * Handle using for sending request to operator by changing status to "submitted".
+     * Required Role: User.
+     * Required HTTP method: POST.
+     * Correct response status code: 200 OK.
+     * @param requestSetStageDTO consists of {@link Long} as requestID, {@link Long} as authorID, {@link String} as current stage.
+     * @return {@link RequestResponseDTO}
+     * @throws IdentifierMismatchException if authorID not equals to request authorID.
+     * @throws ChangeStatusException if request status not "draft".
+     * @throws RequestConflictException if request was changed concurrently.
+     */
+    @PostMapping("/send")
+    public Mono<RequestResponseDTO> sendRequestToOperator(@RequestBody RequestSetStageDTO requestSetStageDTO) {
+        return requestService.submitRequest(requestSetStageDTO);
+    }
+
+    /*------------------------------------------- OPERATOR ------------------------------------------*/
+
+    /**
+     * Handle using for searching all requests with status "submitted".
+     * It can be sorted by date_created in ascending or descending order.
+     * The description of request will have dashed between symbols.
+     * Response paged by 5 elements, header "X-Has-More" tells whether the next page exists.
+     * Required Role: Operator.
+     * Required HTTP method: GET.
+     * Correct response status code: 200 OK.
+     * @param sort consists of {@link String} type of sorting: "default" as ASC or "reverse" as DESC.
+     * @param page consists of {@link int} number of page for pagination.
+     * @return {@link List} of {@link RequestResponseDTO}
+     * @throws IllegalArgumentException if page not correct.
+     */
+    @GetMapping("/all-requests")
+    public Mono<ResponseEntity<List<RequestResponseDTO>>> getOperatorRequests(@RequestParam(value = "sort", defaultValue = "default") String sort,
+                                                                              @RequestParam(value = "page", defaultValue = "0") int page) {
+        return toResponse(requestService.getOperatorRequests(sort, page));
+    }
+
+    /**
+     * Handle using for streaming all requests with status "submitted" without pagination.
+     * Every request is written as a separate JSON line as soon as it is read, with backpressure up to the database cursor.
+     * The description of request will have dashed between symbols.
+     * Required Role: Operator.
+     * Required HTTP method: GET.
+     * Correct response status code: 200 OK.
+     * @param sort consists of {@link String} type of sorting: "default" as ASC or "reverse" as DESC.
+     * @return {@link Flux} of {@link RequestResponseDTO}
+     */
+    @GetMapping(value = "/all-requests/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<RequestResponseDTO> streamOperatorRequests(@RequestParam(value = "sort", defaultValue = "default") String sort) {
+        return requestService.streamOperatorRequests(sort);
+    }
+
+    /**
+     * Handle using for searching all requests by full name or some part with any status.
+     * It works same with name/surname and surname/name formats, with parts of words and with any case and whitespace.
+     * The description of request will have dashed between symbols.
+     * It can be sorted by date_created in ascending or descending order.
+     * Response paged by 5 elements, header "X-Has-More" tells whether the next page exists.
+     * Required Role: Operator.
+     * Required HTTP method: GET.
+     * Correct response status code: 200 OK.
+     * @param name consists of {@link String} as full name or some part of it.
+     * @param sort consists of {@link String} type of sorting: "default" as ASC or "reverse" as DESC.
+     * @param page consists of {@link int} number of page for pagination.
+     * @return {@link List} of {@link RequestResponseDTO}.
+     * @throws IllegalArgumentException if name or page not correct.
+     */
+    @GetMapping("/requests/{name}")
+    public Mono<ResponseEntity<List<RequestResponseDTO>>> getPersonRequests(@PathVariable("name") String name,
+                                                                            @RequestParam(value = "sort", defaultValue = "default") String sort,
+                                                                            @RequestParam(value = "page", defaultValue = "0") int page) {
+        return toResponse(requestService.getPersonRequests(name, sort, page));
+    }
+
+    /**
+     * Handle using for approve request by operator and changing status to "approved".
+     * Required Role: Operator.
+     * Required HTTP method: POST.
+     * Correct response status code: 200 OK.
+     * @param requestSetStageDTO consists of {@link Long} as requestID, {@link Long} as authorID, {@link String} as current stage.
+     * @return {@link RequestResponseDTO}
+     * @throws IdentifierMismatchException if authorID not equals to request authorID.
+     * @throws ChangeStatusException if request status not "submitted".
+     * @throws RequestConflictException if request was changed concurrently.
+     */
+    @PostMapping("/approve")
+    public Mono<RequestResponseDTO> approveRequest(@RequestBody RequestSetStageDTO requestSetStageDTO) {
+        return requestService.approveRequest(requestSetStageDTO);
+    }
+
+    /**
+     * Handle using for reject request by operator and changing status to "rejected".
+     * Required Role: Operator.
+     * Required HTTP method: POST.
+     * Correct response status code: 200 OK.
+     * @param requestSetStageDTO consists of {@link Long} as requestID, {@link Long} as authorID, {@link String} as current stage.
+     * @return {@link RequestResponseDTO}
+     * @throws IdentifierMismatchException if authorID not equals to request authorID.
+     * @throws ChangeStatusException if request status not "submitted".
+     * @throws RequestConflictException if request was changed concurrently.
+     */
+    @PostMapping("/reject")
+    public Mono<RequestResponseDTO> rejectRequest(@RequestBody RequestSetStageDTO requestSetStageDTO) {
+        return requestService.rejectRequest(requestSetStageDTO);
+    }
+
+    /*------------------------------------------- GENERAL ------------------------------------------*/
+
+    /**
+     * Handle using for searching request by requestID.
+     * The description of request will have dashed between symbols for operator.
+     * Required Role: User, Operator.
+     * Required HTTP method: GET.
+     * Correct response status code: 200 OK.
+     * @param requestID consists of {@link Long}.
+     * @return {@link RequestResponseDTO}.
+     * @throws IdentifierMismatchException if request not found.
+     */
+    @GetMapping("/{requestID}")
+    public Mono<RequestResponseDTO> getRequest(@PathVariable("requestID") Long requestID, Authentication authentication) {
+        boolean operator = authentication.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals(OPERATOR_ROLE));
+
+        return requestService.getRequest(requestID, operator);
+    }
+}
@@ -0,0 +1,202 @@
+package ru.petrsushilin.testapp.requestservice.reactive.requests;
+
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestResponseDTO;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.users.PersonNameQuery;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Requests table over R2DBC. Listings select the same columns as the DTO projection of the blocking repository,
+ * stage changes are the same conditional updates with a version bump, so both services can share one database.
+ * Updates made here are not seen by in-memory state of the blocking service: its {@code SubmittedRequestIndex}
+ * notices them only at the next periodic check and its query cache not before the entries expire,
+ * so keep {@code app.requests.submittedIndex.enabled} and {@code app.hibernate.queryCache} off there
+ * while this service writes to the same database.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Repository
+public class ReactiveRequestRepository {
+    private static final String RESPONSE_PROJECTION = "SELECT r.id AS request_id, r.created_at, u.id AS user_id, " +
+            "u.name AS user_name, u.surname AS user_surname, r.stage, r.description, r.version " +
+            "FROM requests r JOIN users u ON u.id = r.user_id ";
+
+    private final DatabaseClient databaseClient;
+
+    @Autowired
+    public ReactiveRequestRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /*------------------------------------------- HIDE ------------------------------------------*/
+
+    private static RequestResponseDTO toResponse(Row row) {
+        return new RequestResponseDTO(
+                row.get("request_id", Long.class),
+                row.get("created_at", LocalDate.class),
+                row.get("user_id", Long.class),
+                row.get("user_name", String.class),
+                row.get("user_surname", String.class),
+                Stage.valueOf(row.get("stage", String.class)),
+                row.get("description", String.class),
+                row.get("version", Long.class));
+    }
+
+    private static String orderBy(Sort.Direction direction) {
+        return "ORDER BY r.created_at " + direction.name() + ", r.id " + direction.name() + " ";
+    }
+
+    /*------------------------------------------- QUERIES ------------------------------------------*/
+
+    public Mono<RequestResponseDTO> findById(Long requestID) {
+        return databaseClient.sql(RESPONSE_PROJECTION + "WHERE r.id = :requestID")
+                .bind("requestID", requestID)
+                .map((row, metadata) -> toResponse(row))
+                .one();
+    }
+
+    public Flux<RequestResponseDTO> findByUserID(Long userID, Sort.Direction direction, long offset, int limit) {
+        return databaseClient.sql(RESPONSE_PROJECTION + "WHERE r.user_id = :userID "
+                        + orderBy(direction) + "LIMIT :limit OFFSET :offset")
+                .bind("userID", userID)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map((row, metadata) -> toResponse(row))
+                .all();
+    }
+
+    public Flux<RequestResponseDTO> findByStage(Stage stage, Sort.Direction direction, long offset, int limit) {
+        return databaseClient.sql(RESPONSE_PROJECTION + "WHERE r.stage = :stage "
+                        + orderBy(direction) + "LIMIT :limit OFFSET :offset")
+                .bind("stage", stage.name())
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map((row, metadata) -> toResponse(row))
+                .all();
+    }
+
+    /**
+     * All requests in the stage without paging. Rows are fetched from the server by {@code fetchSize},
+     * so a slow subscriber holds the cursor instead of buffering the whole result.
+     */
+    public Flux<RequestResponseDTO> streamByStage(Stage stage, Sort.Direction direction, int fetchSize) {
+        return databaseClient.sql(RESPONSE_PROJECTION + "WHERE r.stage = :stage " + orderBy(direction))
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .bind("stage", stage.name())
+                .map((row, metadata) -> toResponse(row))
+                .all();
+    }
+
+    public Flux<RequestResponseDTO> findByPersonName(PersonNameQuery nameQuery, Sort.Direction direction,
+                                                     long offset, int limit) {
+        List<String> patterns = nameQuery.getContainsPatterns();
+
+        StringBuilder sql = new StringBuilder(RESPONSE_PROJECTION).append("WHERE ");
+        for (int i = 0; i < patterns.size(); i++) {
+            if (i > 0)
+                sql.append("AND ");
+            sql.append("u.search_name LIKE :pattern").append(i)
+                    .append(" ESCAPE '").append(PersonNameQuery.LIKE_ESCAPE).append("' ");
+        }
+        sql.append(orderBy(direction)).append("LIMIT :limit OFFSET :offset");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString())
+                .bind("limit", limit)
+                .bind("offset", offset);
+        for (int i = 0; i < patterns.size(); i++)
+            spec = spec.bind("pattern" + i, patterns.get(i));
+
+        return spec.map((row, metadata) -> toResponse(row)).all();
+    }
+
+    /*------------------------------------------- UPDATES ------------------------------------------*/
+
+    /**
+     * Takes one value of {@code requests_seq} as the ID. Hibernate of the blocking service allocates
+     * blocks ending with the values it takes itself, so a value taken here never falls into its blocks.
+     */
+    public Mono<Long> nextID() {
+        return databaseClient.sql("SELECT nextval('requests_seq')")
+                .map((row, metadata) -> row.get(0, Long.class))
+                .one();
+    }
+
+    /**
+     * Inserts the request only if the author exists.
+     * @return number of inserted rows, 0 if there is no such user.
+     */
+    public Mono<Integer> insert(Long requestID, Long userID, LocalDate createdAt, Stage stage, String description) {
+        return databaseClient.sql("INSERT INTO requests (id, created_at, user_id, stage, description, version) " +
+                        "SELECT :requestID, :createdAt, u.id, :stage, :description, 0 FROM users u WHERE u.id = :userID")
+                .bind("requestID", requestID)
+                .bind("createdAt", createdAt)
+                .bind("stage", stage.name())
+                .bind("description", description)
+                .bind("userID", userID)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Integer> updateDescription(Long requestID, Long userID, String description) {
+        return databaseClient.sql("UPDATE requests SET description = :description, version = version + 1 " +
+                        "WHERE id = :requestID AND user_id = :userID")
+                .bind("description", description)
+                .bind("requestID", requestID)
+                .bind("userID", userID)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Integer> updateStageOfVersion(Long requestID, Long userID, Stage currentStage, Stage newStage,
+                                              Long version) {
+        return databaseClient.sql("UPDATE requests SET stage = :newStage, version = version + 1 " +
+                        "WHERE id = :requestID AND user_id = :userID AND stage = :currentStage AND version = :version")
+                .bind("newStage", newStage.name())
+                .bind("requestID", requestID)
+                .bind("userID", userID)
+                .bind("currentStage", currentStage.name())
+                .bind("version", version)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Integer> updateStage(Long requestID, Long userID, Stage currentStage, Stage newStage) {
+        return databaseClient.sql("UPDATE requests SET stage = :newStage, version = version + 1 " +
+                        "WHERE id = :requestID AND user_id = :userID AND stage = :currentStage")
+                .bind("newStage", newStage.name())
+                .bind("requestID", requestID)
+                .bind("userID", userID)
+                .bind("currentStage", currentStage.name())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Records the transition in the outbox of the blocking service, call it in the transaction of the stage update.
+     * The row is written only if the request is in the new stage, same as {@code RequestOutbox} does.
+     * @return number of recorded transitions.
+     */
+    public Mono<Integer> insertStageEvent(Long requestID, Stage fromStage, Stage toStage, LocalDateTime changedAt) {
+        return databaseClient.sql("INSERT INTO request_outbox (request_id, from_stage, to_stage, changed_at) " +
+                        "SELECT r.id, :fromStage, :toStage, :changedAt FROM requests r " +
+                        "WHERE r.id = :requestID AND r.stage = :toStage")
+                .bind("fromStage", fromStage.name())
+                .bind("toStage", toStage.name())
+                .bind("changedAt", changedAt)
+                .bind("requestID", requestID)
+                .fetch()
+                .rowsUpdated();
+    }
+}
@@ -0,0 +1,208 @@
+package ru.petrsushilin.testapp.requestservice.reactive.requests;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.petrsushilin.testapp.requestservice.global.exceptions.ChangeStatusException;
+import ru.petrsushilin.testapp.requestservice.global.exceptions.IdentifierMismatchException;
+import ru.petrsushilin.testapp.requestservice.global.exceptions.RequestConflictException;
+import ru.petrsushilin.testapp.requestservice.requests.DescriptionFormatter;
+import ru.petrsushilin.testapp.requestservice.requests.RequestCreationRules;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestCreationDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestMessageDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestResponseDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestSetStageDTO;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.users.PersonNameQuery;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Same contract as the blocking {@code RequestService}: pages of {@code defaultPageSize} with one extra row
+ * to tell whether the next page exists, operator descriptions with dashes, stage changes by transition rules of {@link Stage}.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Service
+public class ReactiveRequestService {
+    private final ReactiveRequestRepository requestRepository;
+    private final DescriptionFormatter descriptionFormatter;
+
+    @Autowired
+    public ReactiveRequestService(ReactiveRequestRepository requestRepository, DescriptionFormatter descriptionFormatter) {
+        this.requestRepository = requestRepository;
+        this.descriptionFormatter = descriptionFormatter;
+    }
+
+    @Value("${app.pagination.defaultPageSize}")
+    private int defaultPageSize;
+
+    @Value("${app.requests.streamFetchSize}")
+    private int streamFetchSize;
+
+    /*------------------------------------------- HIDE ------------------------------------------*/
+
+    private Sort.Direction getSortDirection(String sortDir) {
+        return sortDir.equalsIgnoreCase("reverse") ? Sort.Direction.DESC : Sort.Direction.ASC;
+    }
+
+    private long getOffset(int page) {
+        if (page < 0)
+            throw new IllegalArgumentException("Page index must not be less than zero");
+        return (long) page * defaultPageSize;
+    }
+
+    private RequestResponseDTO setOperatorDescription(RequestResponseDTO request) {
+        request.setDescription(descriptionFormatter.addDashes(request.getDescription()));
+        return request;
+    }
+
+    private Stage getCurrentStage(RequestSetStageDTO reqDTO) {
+        try {
+            return Stage.valueOf(reqDTO.getCurrentStage());
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            throw new ChangeStatusException("Status cannot to be change to " + reqDTO.getCurrentStage() + ".");
+        }
+    }
+
+    /**
+     * Changes the stage with one conditional update, like the blocking service does, and records the transition
+     * in the outbox within the same transaction, so the relay of the blocking service publishes it.
+     * A given version must be the current one too, a {@code null} version is not checked.
+     * The request is read after the update to build the response or to explain why nothing was updated.
+     */
+    private Mono<RequestResponseDTO> changeRequestStage(RequestSetStageDTO reqDTO, Stage newStage) {
+        Long version = reqDTO.getVersion();
+
+        return Mono.fromCallable(() -> getCurrentStage(reqDTO))
+                .filter(currentStage -> currentStage.canMoveTo(newStage))
+                .switchIfEmpty(Mono.error(() ->
+                        new ChangeStatusException("Status cannot to be change to " + reqDTO.getCurrentStage() + ".")))
+                .flatMap(currentStage -> (version == null
+                        ? requestRepository.updateStage(reqDTO.getRequestID(), reqDTO.getUserID(), currentStage, newStage)
+                        : requestRepository.updateStageOfVersion(reqDTO.getRequestID(), reqDTO.getUserID(),
+                                currentStage, newStage, version))
+                        .flatMap(updated -> updated == 0 ? Mono.just(updated) : requestRepository
+                                .insertStageEvent(reqDTO.getRequestID(), currentStage, newStage, LocalDateTime.now())
+                                .thenReturn(updated))
+                        .flatMap(updated -> requestRepository.findById(reqDTO.getRequestID())
+                                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException(
+                                        "Request with id " + reqDTO.getRequestID() + " not found")))
+                                .map(request -> {
+                                    if (updated > 0)
+                                        return request;
+                                    if (!request.getUserID().equals(reqDTO.getUserID()))
+                                        throw new IdentifierMismatchException("User id does not match with request author's ID.");
+                                    if (!request.getStage().equals(currentStage.name()))
+                                        throw new RequestConflictException("Request with id " + reqDTO.getRequestID()
+                                                + " has stage " + request.getStage() + " instead of " + currentStage + ".");
+                                    throw new RequestConflictException("Request with id " + reqDTO.getRequestID()
+                                            + " has version " + request.getVersion() + " instead of " + version + ".");
+                                })));
+    }
+
+    /**
+     * The listing is requested with one row more than the page to know whether the next page exists.
+     */
+    private Mono<Slice<RequestResponseDTO>> toSlice(Flux<RequestResponseDTO> requests, int page) {
+        return requests
+                .collectList()
+                .map(content -> {
+                    boolean hasNext = content.size() > defaultPageSize;
+                    return new SliceImpl<>(hasNext ? content.subList(0, defaultPageSize) : content,
+                            PageRequest.of(page, defaultPageSize), hasNext);
+                });
+    }
+
+    /*------------------------------------------- GENERAL ------------------------------------------*/
+
+    public Mono<RequestResponseDTO> getRequest(Long requestID, boolean operator) {
+        return requestRepository.findById(requestID)
+                .switchIfEmpty(Mono.error(() -> new IdentifierMismatchException("Request with id " + requestID + " not found")))
+                .map(request -> operator ? setOperatorDescription(request) : request);
+    }
+
+    /*------------------------------------------- USER METHODS ------------------------------------------*/
+
+    @Transactional(rollbackFor = Exception.class)
+    public Mono<RequestResponseDTO> createRequest(RequestCreationDTO requestCreationDTO) {
+        return Mono.fromRunnable(() -> RequestCreationRules.validate(requestCreationDTO))
+                .then(requestRepository.nextID())
+                .flatMap(requestID -> requestRepository
+                        .insert(requestID, requestCreationDTO.getUserID(), LocalDate.now(), Stage.DRAFT,
+                                requestCreationDTO.getDescription())
+                        .filter(inserted -> inserted > 0)
+                        .switchIfEmpty(Mono.error(() -> new IdentifierMismatchException(
+                                "User with ID " + requestCreationDTO.getUserID() + " not found")))
+                        .then(requestRepository.findById(requestID)));
+    }
+
+    public Mono<Slice<RequestResponseDTO>> getUserRequests(Long userID, String sortDir, int page) {
+        return toSlice(Flux.defer(() -> requestRepository
+                .findByUserID(userID, getSortDirection(sortDir), getOffset(page), defaultPageSize + 1)), page);
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public Mono<RequestResponseDTO> updateRequestMessage(RequestMessageDTO requestMessageDTO) {
+        Long requestID = requestMessageDTO.getRequestID();
+
+        return requestRepository
+                .updateDescription(requestID, requestMessageDTO.getAuthorID(), requestMessageDTO.getDescription())
+                .flatMap(updated -> requestRepository.findById(requestID)
+                        .switchIfEmpty(Mono.error(() -> new IdentifierMismatchException("Request with id " + requestID + " not found")))
+                        .map(request -> {
+                            if (updated == 0)
+                                throw new IdentifierMismatchException("User id does not match with request author's ID.");
+                            return request;
+                        }));
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public Mono<RequestResponseDTO> submitRequest(RequestSetStageDTO reqDTO) {
+        return changeRequestStage(reqDTO, Stage.SUBMITTED);
+    }
+
+    /*------------------------------------------- OPERATOR METHODS ------------------------------------------*/
+
+    public Mono<Slice<RequestResponseDTO>> getOperatorRequests(String sortDir, int page) {
+        return toSlice(Flux.defer(() -> requestRepository
+                        .findByStage(Stage.SUBMITTED, getSortDirection(sortDir), getOffset(page), defaultPageSize + 1))
+                .map(this::setOperatorDescription), page);
+    }
+
+    /**
+     * All requests with status "submitted", rows are read from the database as fast as the client takes them.
+     */
+    public Flux<RequestResponseDTO> streamOperatorRequests(String sortDir) {
+        return Flux.defer(() -> requestRepository
+                        .streamByStage(Stage.SUBMITTED, getSortDirection(sortDir), streamFetchSize))
+                .map(this::setOperatorDescription);
+    }
+
+    public Mono<Slice<RequestResponseDTO>> getPersonRequests(String fullName, String sortDir, int page) {
+        return toSlice(Flux.defer(() -> requestRepository
+                        .findByPersonName(PersonNameQuery.parse(fullName), getSortDirection(sortDir),
+                                getOffset(page), defaultPageSize + 1))
+                .map(this::setOperatorDescription), page);
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public Mono<RequestResponseDTO> approveRequest(RequestSetStageDTO reqDTO) {
+        return changeRequestStage(reqDTO, Stage.APPROVED);
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public Mono<RequestResponseDTO> rejectRequest(RequestSetStageDTO reqDTO) {
+        return changeRequestStage(reqDTO, Stage.REJECTED);
+    }
+}
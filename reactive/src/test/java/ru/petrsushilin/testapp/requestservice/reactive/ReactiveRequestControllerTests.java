@@ -0,0 +1,184 @@
+package ru.petrsushilin.testapp.requestservice.reactive;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestCreationDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestResponseDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestSetStageDTO;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.mockUser;
+
+/**
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+class ReactiveRequestControllerTests {
+    @Autowired
+    private WebTestClient webTestClient;
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    private WebTestClient user() {
+        return webTestClient.mutateWith(mockUser().roles("USER"));
+    }
+
+    private WebTestClient operator() {
+        return webTestClient.mutateWith(mockUser().roles("OPERATOR"));
+    }
+
+    private RequestResponseDTO create(Long userID, String description) {
+        RequestCreationDTO creationDTO = new RequestCreationDTO();
+        creationDTO.setUserID(userID);
+        creationDTO.setDescription(description);
+
+        return user().post().uri("/request/create")
+                .bodyValue(creationDTO)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(RequestResponseDTO.class)
+                .returnResult().getResponseBody();
+    }
+
+    private WebTestClient.ResponseSpec changeStage(WebTestClient client, String path, RequestResponseDTO request, String currentStage) {
+        RequestSetStageDTO setStageDTO = new RequestSetStageDTO();
+        setStageDTO.setRequestID(request.getRequestID());
+        setStageDTO.setUserID(request.getUserID());
+        setStageDTO.setCurrentStage(currentStage);
+
+        return client.post().uri(path).bodyValue(setStageDTO).exchange();
+    }
+
+    @Test
+    void requestGoesThroughStagesAndListings() {
+        RequestResponseDTO request = create(1L, "abc");
+        assertThat(request.getStage()).isEqualTo("DRAFT");
+        assertThat(request.getUserSurname()).isEqualTo("Sushilin");
+
+        changeStage(user(), "/request/send", request, "DRAFT")
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.stage").isEqualTo("SUBMITTED");
+
+        operator().get().uri("/request/all-requests")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Has-More", "false")
+                .expectBody().jsonPath("$[0].description").isEqualTo("a-b-c");
+
+        List<RequestResponseDTO> streamed = operator().get().uri("/request/all-requests/stream")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(RequestResponseDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+        assertThat(streamed).extracting(RequestResponseDTO::getRequestID).containsExactly(request.getRequestID());
+
+        List<RequestResponseDTO> found = operator().get().uri("/request/requests/{name}", "  SUSHILIN petr ")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(RequestResponseDTO.class)
+                .returnResult().getResponseBody();
+        assertThat(found).extracting(RequestResponseDTO::getRequestID).contains(request.getRequestID());
+        assertThat(found).extracting(RequestResponseDTO::getUserSurname).containsOnly("Sushilin");
+
+        changeStage(operator(), "/request/approve", request, "SUBMITTED")
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.stage").isEqualTo("APPROVED");
+        // stage in the body is stale now, the conditional update detects it
+        changeStage(operator(), "/request/reject", request, "SUBMITTED")
+                .expectStatus().isEqualTo(409);
+        changeStage(operator(), "/request/approve", request, "APPROVED")
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void staleVersionIsRejected() {
+        RequestResponseDTO request = create(1L, "versioned");
+
+        RequestSetStageDTO setStageDTO = new RequestSetStageDTO();
+        setStageDTO.setRequestID(request.getRequestID());
+        setStageDTO.setUserID(request.getUserID());
+        setStageDTO.setCurrentStage("DRAFT");
+        // a created request has version 0, the version is not in the body
+        setStageDTO.setVersion(1L);
+        user().post().uri("/request/send").bodyValue(setStageDTO).exchange()
+                .expectStatus().isEqualTo(409);
+
+        setStageDTO.setVersion(0L);
+        user().post().uri("/request/send").bodyValue(setStageDTO).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.stage").isEqualTo("SUBMITTED");
+
+        // other tests read the submitted listing
+        changeStage(operator(), "/request/approve", request, "SUBMITTED").expectStatus().isOk();
+    }
+
+    @Test
+    void transitionsAreRecordedInOutbox() {
+        RequestResponseDTO request = create(1L, "outbox");
+
+        changeStage(user(), "/request/send", request, "DRAFT").expectStatus().isOk();
+        changeStage(operator(), "/request/approve", request, "SUBMITTED").expectStatus().isOk();
+        changeStage(operator(), "/request/reject", request, "SUBMITTED").expectStatus().isEqualTo(409);
+
+        List<String> events = databaseClient.sql("SELECT from_stage, to_stage FROM request_outbox " +
+                        "WHERE request_id = :requestID ORDER BY id")
+                .bind("requestID", request.getRequestID())
+                .map((row, metadata) -> row.get("from_stage", String.class) + "->" + row.get("to_stage", String.class))
+                .all()
+                .collectList()
+                .block();
+        assertThat(events).containsExactly("DRAFT->SUBMITTED", "SUBMITTED->APPROVED");
+    }
+
+    @Test
+    void userPagesHaveNextPageHeader() {
+        for (int i = 0; i < 6; i++)
+            create(2L, "request " + i);
+
+        user().get().uri("/request/list/id2?sort=reverse")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Has-More", "true")
+                .expectBody().jsonPath("$.length()").isEqualTo(5)
+                .jsonPath("$[0].description").isEqualTo("request 5");
+
+        user().get().uri("/request/list/id2?page=1")
+                .exchange()
+                .expectHeader().valueEquals("X-Has-More", "false")
+                .expectBody().jsonPath("$.length()").isEqualTo(1);
+    }
+
+    @Test
+    void rolesAndAuthorsAreChecked() {
+        operator().get().uri("/request/list/id1").exchange().expectStatus().isForbidden();
+        user().get().uri("/request/all-requests").exchange().expectStatus().isForbidden();
+
+        RequestCreationDTO creationDTO = new RequestCreationDTO();
+        creationDTO.setUserID(99L);
+        creationDTO.setDescription("nobody");
+        user().post().uri("/request/create")
+                .bodyValue(creationDTO)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        RequestResponseDTO request = create(1L, "someone else's");
+        request.setUserID(2L);
+        changeStage(user(), "/request/send", request, "DRAFT")
+                .expectStatus().isBadRequest();
+    }
+}
@@ -0,0 +1,2 @@
+INSERT INTO users (id, login, name, surname, search_name) VALUES (1, 'sushilin', 'Petr', 'Sushilin', 'petr sushilin');
+INSERT INTO users (id, login, name, surname, search_name) VALUES (2, 'ivanov', 'Ivan', 'Ivanov', 'ivan ivanov');
@@ -1,13 +1,24 @@
 package ru.petrsushilin.testapp.requestservice;
 
-
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import ru.petrsushilin.testapp.requestservice.global.sql.CountingStatementInspector;
 
+import javax.cache.CacheManager;
 import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
 
 /**
  * @author Petr Sushilin
@@ -16,12 +27,54 @@ import javax.sql.DataSource;
  */
 @Configuration
 public class HibernateConfig {
+    public static final String USER_REGION = "users";
+    public static final String USER_ROLES_REGION = "users.roles";
+    public static final String SUBMITTED_REQUESTS_REGION = "requests.submitted";
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Value("${app.hibernate.batchSize}")
+    private int batchSize;
+
+    @Value("${app.hibernate.ddlAuto}")
+    private String ddlAuto;
+
+    @Value("${app.hibernate.statistics}")
+    private boolean statistics;
+
+    @Value("${app.hibernate.cache.maxSize}")
+    private long cacheMaxSize;
+
+    @Value("${app.hibernate.cache.ttl}")
+    private Duration cacheTtl;
+
+    @Value("${app.hibernate.queryCache}")
+    private boolean queryCache;
+
+    /**
+     * Caffeine backed JCache regions of the second level cache. Every context gets its own provider,
+     * so regions are never shared between application contexts.
+     */
     @Bean
-    public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        cacheManager.createCache(USER_REGION, expiringRegion());
+        cacheManager.createCache(USER_ROLES_REGION, expiringRegion());
+        cacheManager.createCache(SUBMITTED_REQUESTS_REGION, expiringRegion());
+        cacheManager.createCache(QUERY_RESULTS_REGION, expiringRegion());
+        // timestamps invalidate cached queries, evicting them would serve stale results
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource, CacheManager hibernateCacheManager) {
         LocalContainerEntityManagerFactoryBean entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
         entityManagerFactoryBean.setDataSource(dataSource);
         entityManagerFactoryBean.setPackagesToScan("ru.petrsushilin.testapp.requestservice");
         entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setJpaPropertyMap(hibernateProperties(hibernateCacheManager));
         return entityManagerFactoryBean;
     }
 
@@ -32,4 +85,36 @@ public class HibernateConfig {
 
         return transactionManager;
     }
+
+    /*------------------------------------------- HIDE ------------------------------------------*/
+
+    private CaffeineConfiguration<Object, Object> expiringRegion() {
+        CaffeineConfiguration<Object, Object> region = new CaffeineConfiguration<>();
+        region.setMaximumSize(OptionalLong.of(cacheMaxSize));
+        region.setExpireAfterWrite(OptionalLong.of(cacheTtl.toNanos()));
+        return region;
+    }
+
+    private Map<String, Object> hibernateProperties(CacheManager cacheManager) {
+        Map<String, Object> properties = new HashMap<>();
+        // IN lists of batch operations are padded to powers of two to reuse statement plans
+        properties.put(AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, true);
+        // pooled sequences assign ids in memory, so inserts and updates can be sent in JDBC batches
+        properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+        properties.put(AvailableSettings.ORDER_INSERTS, true);
+        properties.put(AvailableSettings.ORDER_UPDATES, true);
+        properties.put(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        properties.put(AvailableSettings.HBM2DDL_AUTO, ddlAuto);
+        // statistics feed hibernate.* meters: query executions, statements, entity loads
+        properties.put(AvailableSettings.GENERATE_STATISTICS, statistics);
+        // counts statements per HTTP request, see SqlStatementCountFilter
+        properties.put(AvailableSettings.STATEMENT_INSPECTOR, new CountingStatementInspector());
+        // second level cache holds only entities marked @Cacheable, query cache is opt-in
+        properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+        properties.put(AvailableSettings.USE_QUERY_CACHE, queryCache);
+        properties.put(AvailableSettings.CACHE_REGION_FACTORY, JCacheRegionFactory.class.getName());
+        properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+        properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        return properties;
+    }
 }
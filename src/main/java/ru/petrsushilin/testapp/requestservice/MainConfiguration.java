@@ -2,6 +2,7 @@ package ru.petrsushilin.testapp.requestservice;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * @author Petr Sushilin
@@ -9,8 +10,12 @@ import org.springframework.context.annotation.Import;
  * @since 05.05.2024
  */
 @Import({
-        HibernateConfig.class
+        HibernateConfig.class,
+        MetricsConfig.class,
+        SecurityConfig.class,
+        ServerThreadsConfig.class
 })
 @Configuration
+@EnableScheduling
 public class MainConfiguration {
 }
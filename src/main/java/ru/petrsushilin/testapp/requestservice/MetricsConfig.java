@@ -0,0 +1,22 @@
+package ru.petrsushilin.testapp.requestservice;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Configuration
+public class MetricsConfig {
+    /**
+     * Enables {@link io.micrometer.core.annotation.Timed} on service methods.
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,69 @@
+package ru.petrsushilin.testapp.requestservice;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import ru.petrsushilin.testapp.requestservice.global.server.ConcurrencyLimitFilter;
+import ru.petrsushilin.testapp.requestservice.global.server.VirtualThreads;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Thread model of request handling. With {@code app.server.threads=virtual} (Java 21+) Tomcat runs every request,
+ * and so every {@code @Transactional} service call, on its own virtual thread.
+ * The concurrency limiter keeps the number of running requests near the connection pool size.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Configuration
+public class ServerThreadsConfig {
+    @Value("${app.server.limiter.permits}")
+    private int limiterPermits;
+
+    @Value("${app.server.limiter.acquireTimeout}")
+    private Duration limiterAcquireTimeout;
+
+    /**
+     * The executor is not a bean: any {@link java.util.concurrent.Executor} bean makes Spring Boot back off
+     * from its {@code applicationTaskExecutor}, and MVC async requests would run on virtual threads too.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.server.threads", havingValue = "virtual")
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> virtualThreadCustomizer() {
+        ExecutorService virtualThreadExecutor = VirtualThreads.newThreadPerTaskExecutor("http-virtual-");
+        return factory -> factory.addProtocolHandlerCustomizers(
+                protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.server.limiter.enabled", havingValue = "true")
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(DataSource dataSource, MeterRegistry meterRegistry) {
+        // without explicit permits every running request may hold one pooled connection
+        int permits = limiterPermits > 0 ? limiterPermits : poolSize(dataSource);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(permits, limiterAcquireTimeout, meterRegistry));
+        // after statement counting, before security so rejected requests cost nothing
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    /*------------------------------------------- HIDE ------------------------------------------*/
+
+    private static int poolSize(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource)
+            return ((HikariDataSource) dataSource).getMaximumPoolSize();
+        throw new IllegalStateException("Connection pool size is unknown, set app.server.limiter.permits.");
+    }
+}
@@ -0,0 +1,14 @@
+package ru.petrsushilin.testapp.requestservice.global.exceptions;
+
+/**
+ * Exception that indicates that a request was changed concurrently and no longer matches the expected state.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public class RequestConflictException extends IllegalStateException {
+    public RequestConflictException(String message) {
+        super(message);
+    }
+}
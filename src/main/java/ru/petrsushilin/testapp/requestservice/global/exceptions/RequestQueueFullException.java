@@ -0,0 +1,14 @@
+package ru.petrsushilin.testapp.requestservice.global.exceptions;
+
+/**
+ * Exception that indicates that a request cannot be accepted now because the write queue is full.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public class RequestQueueFullException extends IllegalStateException {
+    public RequestQueueFullException(String message) {
+        super(message);
+    }
+}
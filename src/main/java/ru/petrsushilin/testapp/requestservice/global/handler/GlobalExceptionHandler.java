@@ -1,7 +1,9 @@
 package ru.petrsushilin.testapp.requestservice.global.handler;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -9,6 +11,8 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import ru.petrsushilin.testapp.requestservice.global.exceptions.ChangeStatusException;
 import ru.petrsushilin.testapp.requestservice.global.exceptions.IdentifierMismatchException;
+import ru.petrsushilin.testapp.requestservice.global.exceptions.RequestConflictException;
+import ru.petrsushilin.testapp.requestservice.global.exceptions.RequestQueueFullException;
 
 /**
  * @author Petr Sushilin
@@ -38,6 +42,30 @@ public class GlobalExceptionHandler {
                 HttpStatus.BAD_REQUEST.value(), ex.getMessage()), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(RequestConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<GlobalAppErrorEntity> handleRequestConflictException(RequestConflictException ex) {
+        return new ResponseEntity<>(new GlobalAppErrorEntity(
+                HttpStatus.CONFLICT.value(), ex.getMessage()), HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(RequestQueueFullException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ResponseEntity<GlobalAppErrorEntity> handleRequestQueueFullException(RequestQueueFullException ex) {
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new GlobalAppErrorEntity(HttpStatus.TOO_MANY_REQUESTS.value(), ex.getMessage()));
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<GlobalAppErrorEntity> handleObjectOptimisticLockingFailureException
+            (ObjectOptimisticLockingFailureException ex) {
+        return new ResponseEntity<>(new GlobalAppErrorEntity(
+                HttpStatus.CONFLICT.value(), ex.getMessage()), HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseEntity<GlobalAppErrorEntity> handleMethodArgumentTypeMismatchException
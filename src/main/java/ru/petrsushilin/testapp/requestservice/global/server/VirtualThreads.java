@@ -0,0 +1,45 @@
+package ru.petrsushilin.testapp.requestservice.global.server;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates virtual thread executors through reflection, so the application still compiles for and runs on Java 11.
+ * Once the build targets Java 21 this becomes {@code Executors.newThreadPerTaskExecutor(Thread.ofVirtual().factory())}.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public final class VirtualThreads {
+    private static final int FIRST_RELEASE = 21;
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= FIRST_RELEASE;
+    }
+
+    /**
+     * @throws IllegalStateException if the running Java has no virtual threads.
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        if (!isSupported())
+            throw new IllegalStateException("Virtual threads need Java " + FIRST_RELEASE
+                    + " or newer, running on Java " + Runtime.version().feature() + ".");
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class
+                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Virtual thread executor cannot be created.", e);
+        }
+    }
+}
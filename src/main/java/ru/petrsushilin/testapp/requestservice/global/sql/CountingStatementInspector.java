@@ -0,0 +1,18 @@
+package ru.petrsushilin.testapp.requestservice.global.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate hook which is called for every prepared statement, it only counts or records and never changes the SQL.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public class CountingStatementInspector implements StatementInspector {
+    @Override
+    public String inspect(String sql) {
+        SqlStatementCounter.inspected(sql);
+        return sql;
+    }
+}
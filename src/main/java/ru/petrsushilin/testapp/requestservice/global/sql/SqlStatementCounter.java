@@ -0,0 +1,60 @@
+package ru.petrsushilin.testapp.requestservice.global.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counts SQL statements prepared by Hibernate on the current thread.
+ * The count is started by {@link SqlStatementCountFilter} for every HTTP request
+ * and can be started directly by code which runs outside of a request.
+ * The SQL itself is kept only while recording is started, e.g. to explain generated queries.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public final class SqlStatementCounter {
+    private static final ThreadLocal<long[]> STATEMENTS = new ThreadLocal<>();
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public static void start() {
+        STATEMENTS.set(new long[1]);
+    }
+
+    public static long stop() {
+        long statements = current();
+        STATEMENTS.remove();
+        return statements;
+    }
+
+    public static long current() {
+        long[] statements = STATEMENTS.get();
+        return statements == null ? 0 : statements[0];
+    }
+
+    public static void startRecording() {
+        RECORDED.set(new ArrayList<>());
+    }
+
+    /**
+     * @return SQL of statements prepared since {@link #startRecording()}, in order of preparation.
+     */
+    public static List<String> stopRecording() {
+        List<String> recorded = RECORDED.get();
+        RECORDED.remove();
+        return recorded == null ? List.of() : recorded;
+    }
+
+    static void inspected(String sql) {
+        long[] statements = STATEMENTS.get();
+        if (statements != null)
+            statements[0]++;
+
+        List<String> recorded = RECORDED.get();
+        if (recorded != null)
+            recorded.add(sql);
+    }
+}
@@ -0,0 +1,140 @@
+package ru.petrsushilin.testapp.requestservice.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.petrsushilin.testapp.requestservice.requests.Request;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.users.User;
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Fills the embedded database of the "loadtest" profile with users and requests.
+ * Rows are persisted through Hibernate in chunks, so pooled sequences and JDBC batching
+ * are used the same way as in production inserts.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Component
+@Profile("loadtest")
+@Order(0)
+public class LoadTestDataSeeder implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(LoadTestDataSeeder.class);
+
+    private static final String[] NAMES = {"Petr", "Ivan", "Anna", "Maria", "Oleg", "Elena", "Sergey", "Olga"};
+    private static final String[] SURNAMES = {"Sushilin", "Ivanov", "Petrova", "Smirnov", "Volkova", "Kuznetsov"};
+    private static final Stage[] STAGES = Stage.values();
+
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.loadtest.seed.users}")
+    private int users;
+
+    @Value("${app.loadtest.seed.requests}")
+    private int requests;
+
+    @Value("${app.loadtest.seed.chunkSize}")
+    private int chunkSize;
+
+    @Value("${app.loadtest.login}")
+    private String login;
+
+    @Value("${app.loadtest.password}")
+    private String password;
+
+    @Autowired
+    public LoadTestDataSeeder(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.nanoTime();
+
+        seedLoadTestUser();
+        List<Long> userIDs = new ArrayList<>(users);
+        for (int from = 0; from < users; from += chunkSize) {
+            int to = Math.min(from + chunkSize, users);
+            userIDs.addAll(seedUsers(from, to));
+        }
+
+        SplittableRandom random = new SplittableRandom(42);
+        for (int from = 0; from < requests; from += chunkSize) {
+            int to = Math.min(from + chunkSize, requests);
+            seedRequests(from, to, userIDs, random);
+        }
+
+        log.info("Seeded {} users and {} requests in {} ms",
+                users, requests, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void seedLoadTestUser() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = new User();
+            user.setLogin(login);
+            user.setPassword(password);
+            user.setName("Load");
+            user.setSurname("Test");
+            user.setRoles(EnumSet.of(Role.USER, Role.OPERATOR));
+            entityManager.persist(user);
+        });
+    }
+
+    private List<Long> seedUsers(int from, int to) {
+        return transactionTemplate.execute(status -> {
+            List<User> chunk = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                User user = new User();
+                user.setLogin("user" + i);
+                user.setName(NAMES[i % NAMES.length]);
+                user.setSurname(SURNAMES[(i / NAMES.length) % SURNAMES.length]);
+                user.setRoles(EnumSet.of(Role.USER));
+                entityManager.persist(user);
+                chunk.add(user);
+            }
+            entityManager.flush();
+            entityManager.clear();
+
+            List<Long> ids = new ArrayList<>(chunk.size());
+            chunk.forEach(user -> ids.add(user.getId()));
+            return ids;
+        });
+    }
+
+    private void seedRequests(int from, int to, List<Long> userIDs, SplittableRandom random) {
+        LocalDate today = LocalDate.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = from; i < to; i++) {
+                Request request = new Request();
+                request.setUser(entityManager.getReference(User.class, userIDs.get(random.nextInt(userIDs.size()))));
+                request.setCreatedAt(today.minusDays(random.nextInt(730)));
+                request.setStage(STAGES[random.nextInt(STAGES.length)]);
+                request.setDescription("Load test request number " + i);
+                entityManager.persist(request);
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+}
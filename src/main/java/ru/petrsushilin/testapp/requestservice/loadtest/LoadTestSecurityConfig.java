@@ -0,0 +1,26 @@
+package ru.petrsushilin.testapp.requestservice.loadtest;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Security of the "loadtest" profile: the load test user is seeded by {@link LoadTestDataSeeder}
+ * with a plain password, so every measured call does not pay for hashing.
+ * Role checks of controllers stay enabled, so the measured path includes them.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Configuration
+@Profile("loadtest")
+public class LoadTestSecurityConfig {
+    @Bean
+    @SuppressWarnings("deprecation")
+    public PasswordEncoder loadTestPasswordEncoder() {
+        return NoOpPasswordEncoder.getInstance();
+    }
+}
@@ -0,0 +1,40 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Formats request descriptions for operators by putting a dash between every two characters.
+ * The result is written into one pre-sized char array, surrogate pairs are kept together,
+ * so characters outside the BMP are never split by a dash.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Component
+public class DescriptionFormatter {
+    private static final char DASH = '-';
+
+    public String addDashes(String input) {
+        if (input == null)
+            return null;
+
+        int length = input.length();
+        int codePoints = input.codePointCount(0, length);
+        if (codePoints < 2)
+            return input;
+
+        char[] result = new char[length + codePoints - 1];
+        int position = 0;
+        char previous = 0;
+        for (int i = 0; i < length; i++) {
+            char current = input.charAt(i);
+            if (i > 0 && !(Character.isLowSurrogate(current) && Character.isHighSurrogate(previous)))
+                result[position++] = DASH;
+            result[position++] = current;
+            previous = current;
+        }
+
+        return new String(result);
+    }
+}
@@ -12,10 +12,14 @@ import java.time.LocalDate;
  * @since 05.05.2024
  */
 @Entity
-@Table(name = "Requests")
+@Table(name = "Requests", indexes = {
+        @Index(name = "requests_user_created_index", columnList = "user_id, created_at, id"),
+        @Index(name = "requests_stage_created_index", columnList = "stage, created_at, id")
+})
 public class Request {
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "requests_seq")
+    @SequenceGenerator(name = "requests_seq", sequenceName = "requests_seq", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Long id;
     @Column(name = "created_at", nullable = false)
@@ -28,6 +32,9 @@ public class Request {
     private Stage stage;
     @Column(name = "description", nullable = false)
     private String description;
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 
     public Long getId() {
         return id;
@@ -68,4 +75,12 @@ public class Request {
     public void setDescription(String description) {
         this.description = description;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -1,35 +1,66 @@
 package ru.petrsushilin.testapp.requestservice.requests;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import ru.petrsushilin.testapp.requestservice.global.exceptions.ChangeStatusException;
 import ru.petrsushilin.testapp.requestservice.global.exceptions.IdentifierMismatchException;
+import ru.petrsushilin.testapp.requestservice.global.exceptions.RequestConflictException;
+import ru.petrsushilin.testapp.requestservice.global.exceptions.RequestQueueFullException;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestBatchResultDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestBatchStageDTO;
 import ru.petrsushilin.testapp.requestservice.requests.dto.RequestCreationDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestImportReportDTO;
 import ru.petrsushilin.testapp.requestservice.requests.dto.RequestMessageDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestPageDTO;
 import ru.petrsushilin.testapp.requestservice.requests.dto.RequestResponseDTO;
 import ru.petrsushilin.testapp.requestservice.requests.dto.RequestSetStageDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestTotalDTO;
+import ru.petrsushilin.testapp.requestservice.requests.enums.ExportFormat;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
  * The controller for handling requests methods.
  * This .class using for:
  * - create new request by user.
+ * - create batch of new requests by user.
  * - change description of request before sending for confirm by user.
  * - send request to operator for confirm by user.
  * - approve by operator.
  * - reject by operator.
+ * - approve or reject a batch of requests by operator.
  * - searching request by ID by user and operator.
  * - searching all requests with "draft" stage created by the user himself and ordering requests by date_created in ascending or descending order.
  * - searching all requests with status "submitted" by operator and ordering requests by date_created in ascending or descending order.
  * - searching all requests by full name or some part with any status by operator and ordering requests by date_created in ascending or descending order.
+ * - approximate total of requests with status "submitted" for operator.
+ * - stream of newly submitted, approved and rejected requests for operator as server-sent events.
+ * - the same listings in keyset (cursor) mode, which seeks on (date_created, id) instead of skipping rows.
+ * - export of all requests filtered by stage, author and date range as NDJSON or CSV by user and operator.
+ * - import of draft requests from JSON lines by admin.
  *
  * @author Petr Sushilin
  * @version 1.0
@@ -38,22 +69,34 @@ import java.util.Optional;
 @RestController
 @RequestMapping("/request")
 public class RequestController {
+    private static final String HAS_MORE_HEADER = "X-Has-More";
+
     private final RequestService requestService;
+    private final RequestTotalCache requestTotalCache;
+    private final RequestImportService requestImportService;
+    private final RequestStreamBroadcaster requestStreamBroadcaster;
 
     @Autowired
-    public RequestController(RequestService requestService) {
+    public RequestController(RequestService requestService, RequestTotalCache requestTotalCache,
+                             RequestImportService requestImportService,
+                             RequestStreamBroadcaster requestStreamBroadcaster) {
         this.requestService = requestService;
+        this.requestTotalCache = requestTotalCache;
+        this.requestImportService = requestImportService;
+        this.requestStreamBroadcaster = requestStreamBroadcaster;
     }
 
     /*------------------------------------------ USER ------------------------------------------*/
     /**
      * Handle using for create new request and response created request with status "draft".
+     * With write-behind enabled the request is saved together with other concurrently created requests.
      * Required Role: User.
      * Required HTTP method: POST.
      * Correct response status code: 201 CREATED.
      * @param requestCreationDTO consists of {@link Long} as authorID whose request will be created, {@link String} as description of request.
      * @return ResponseEntity {@link RequestResponseDTO}
      * @throws IdentifierMismatchException if authorID not found.
+     * @throws RequestQueueFullException if write-behind queue is full, response status code 429 TOO MANY REQUESTS.
      */
     @Secured({"ROLE_USER"})
     @PostMapping("/create")
@@ -63,13 +106,32 @@ public class RequestController {
                 .body(requestService.createRequest(requestCreationDTO));
     }
 
+    /**
+     * Handle using for create batch of new requests and response created requests with status "draft".
+     * All requests are inserted in one transaction with batched statements.
+     * Required Role: User.
+     * Required HTTP method: POST.
+     * Correct response status code: 201 CREATED.
+     * @param requestCreationDTOs consists of {@link List} of {@link RequestCreationDTO}.
+     * @return ResponseEntity {@link List} of {@link RequestResponseDTO}
+     * @throws IllegalArgumentException if list is empty or exceeds the batch size limit.
+     * @throws IdentifierMismatchException if an author is not found, nothing is created then.
+     */
+    @Secured({"ROLE_USER"})
+    @PostMapping("/create/batch")
+    public ResponseEntity<List<RequestResponseDTO>> createRequests(@RequestBody List<RequestCreationDTO> requestCreationDTOs) {
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(requestService.createRequests(requestCreationDTOs));
+    }
+
     /**
      * Handle using for searching all requests by userID with any status.
      * It can be sorted by date_created in ascending or descending order.
-     * Response paged by 5 elements.
+     * Response paged by 5 elements, header "X-Has-More" tells whether the next page exists.
      * Required Role: User.
      * Required HTTP method: GET.
-     * Correct response status code: 200 OK.
+     * Correct response status code: 200 OK with ETag, 304 NOT MODIFIED if header "If-None-Match" has the current ETag.
      * @param userID consists of {@link Long} the ID of user whose list of requests will be searching.
      * @param sort consists of {@link String} type of sorting: "default" as ASC or "reverse" as DESC.
      * @param page consists of {@link int} number of page for pagination.
@@ -81,10 +143,41 @@ public class RequestController {
     @GetMapping("/list/id{userID}")
     public ResponseEntity<List<?>> getUserRequests(@PathVariable("userID") Long userID,
                                                    @RequestParam(value = "sort", required = true, defaultValue = "default") String sort,
-                                                   @RequestParam(value = "page", required = true, defaultValue = "0") int page) {
+                                                   @RequestParam(value = "page", required = true, defaultValue = "0") int page,
+                                                   WebRequest webRequest) {
+        if (isConditional(webRequest) && webRequest.checkNotModified(requestService.getUserRequestsETag(userID, sort, page)))
+            return null;
+
+        Slice<RequestResponseDTO> requests = requestService.getUserRequests(userID, sort, page);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .header(HAS_MORE_HEADER, String.valueOf(requests.hasNext()))
+                .eTag(pageETag(requests))
+                .body(requests.getContent());
+    }
+
+    /**
+     * Handle using for searching all requests by userID with any status in keyset (cursor) mode.
+     * It can be sorted by date_created in ascending or descending order.
+     * Response paged by 5 elements, next and previous pages are requested with returned cursors.
+     * Required Role: User.
+     * Required HTTP method: GET.
+     * Correct response status code: 200 OK.
+     * @param userID consists of {@link Long} the ID of user whose list of requests will be searching.
+     * @param sort consists of {@link String} type of sorting: "default" as ASC or "reverse" as DESC.
+     * @param cursor consists of {@link String} opaque cursor from previous response, absent for the first page.
+     * @return ResponseEntity {@link RequestPageDTO}
+     * @throws IllegalArgumentException if cursor not correct.
+     */
+    @Secured({"ROLE_USER"})
+    @GetMapping("/list/id{userID}/seek")
+    public ResponseEntity<RequestPageDTO> getUserRequestsByCursor(@PathVariable("userID") Long userID,
+                                                                  @RequestParam(value = "sort", required = true, defaultValue = "default") String sort,
+                                                                  @RequestParam(value = "cursor", required = false) String cursor) {
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(requestService.getUserRequests(userID, sort, page));
+                .body(requestService.getUserRequestsByCursor(userID, sort, cursor));
     }
 
     /**
@@ -111,10 +204,12 @@ public class RequestController {
      * Required Role: User.
      * Required HTTP method: POST.
      * Correct response status code: 200 OK.
-     * @param requestSetStageDTO consists of {@link Long} as requestID, {@link Long} as authorID, {@link String} as description of request.
+     * @param requestSetStageDTO consists of {@link Long} as requestID, {@link Long} as authorID, {@link String} as description of request,
+     *                           optional {@link Long} as version from the ETag of the request.
      * @return ResponseEntity {@link RequestResponseDTO}
      * @throws IdentifierMismatchException if request not found or authorID not equals to request authorID.
      * @throws ChangeStatusException if request status not "draft".
+     * @throws RequestConflictException if request was changed concurrently or its version is not the given one.
      */
     @Secured({"ROLE_USER"})
     @PostMapping("/send")
@@ -131,10 +226,10 @@ public class RequestController {
      * Handle using for searching all requests with status "submitted".
      * It can be sorted by date_created in ascending or descending order.
      * The description of request will have dashed between symbols.
-     * Response paged by 5 elements.
+     * Response paged by 5 elements, header "X-Has-More" tells whether the next page exists.
      * Required Role: Operator.
      * Required HTTP method: GET.
-     * Correct response status code: 200 OK.
+     * Correct response status code: 200 OK with ETag, 304 NOT MODIFIED if header "If-None-Match" has the current ETag.
      * @param sort consists of {@link String} type of sorting: "default" as ASC or "reverse" as DESC.
      * @param page consists of {@link int} number of page for pagination.
      * @return ResponseEntity {@link List} of {@link RequestResponseDTO}
@@ -143,21 +238,83 @@ public class RequestController {
     @Secured({"ROLE_OPERATOR"})
     @GetMapping("/all-requests")
     public ResponseEntity<List<?>> getOperatorRequests(@RequestParam(value = "sort", required = true, defaultValue = "default") String sort,
-                                                 @RequestParam(value = "page", required = true, defaultValue = "0") int page) {
+                                                 @RequestParam(value = "page", required = true, defaultValue = "0") int page,
+                                                 WebRequest webRequest) {
+        if (isConditional(webRequest) && webRequest.checkNotModified(requestService.getOperatorRequestsETag(sort, page)))
+            return null;
+
+        Slice<RequestResponseDTO> requests = requestService.getOperatorRequests(sort, page);
+
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(requestService.getOperatorRequests(sort, page));
+                .header(HAS_MORE_HEADER, String.valueOf(requests.hasNext()))
+                .eTag(pageETag(requests))
+                .body(requests.getContent());
+    }
+
+    /**
+     * Handle using for subscribing to requests which were submitted, approved or rejected after the subscription.
+     * Every committed transition is sent as event named by the new stage with {@link RequestResponseDTO} as data,
+     * the description has dashed between symbols.
+     * A client which does not keep up is disconnected and should reload "all-requests" after reconnect.
+     * Required Role: Operator.
+     * Required HTTP method: GET.
+     * Correct response status code: 200 OK with content type "text/event-stream".
+     * @return {@link SseEmitter} kept open until timeout or disconnect.
+     */
+    @Secured({"ROLE_OPERATOR"})
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRequests() {
+        return requestStreamBroadcaster.subscribe();
+    }
+
+    /**
+     * Handle using for getting approximate total of requests with status "submitted".
+     * The total is cached for a short time, so it can lag behind the listing.
+     * Required Role: Operator.
+     * Required HTTP method: GET.
+     * Correct response status code: 200 OK.
+     * @return ResponseEntity {@link RequestTotalDTO}
+     */
+    @Secured({"ROLE_OPERATOR"})
+    @GetMapping("/all-requests/total")
+    public ResponseEntity<RequestTotalDTO> getOperatorRequestsTotal() {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(requestTotalCache.getTotal(Stage.SUBMITTED));
+    }
+
+    /**
+     * Handle using for searching all requests with status "submitted" in keyset (cursor) mode.
+     * It can be sorted by date_created in ascending or descending order.
+     * The description of request will have dashed between symbols.
+     * Response paged by 5 elements, next and previous pages are requested with returned cursors.
+     * Required Role: Operator.
+     * Required HTTP method: GET.
+     * Correct response status code: 200 OK.
+     * @param sort consists of {@link String} type of sorting: "default" as ASC or "reverse" as DESC.
+     * @param cursor consists of {@link String} opaque cursor from previous response, absent for the first page.
+     * @return ResponseEntity {@link RequestPageDTO}
+     * @throws IllegalArgumentException if cursor not correct.
+     */
+    @Secured({"ROLE_OPERATOR"})
+    @GetMapping("/all-requests/seek")
+    public ResponseEntity<RequestPageDTO> getOperatorRequestsByCursor(@RequestParam(value = "sort", required = true, defaultValue = "default") String sort,
+                                                                      @RequestParam(value = "cursor", required = false) String cursor) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(requestService.getOperatorRequestsByCursor(sort, cursor));
     }
 
     /**
      * Handle using for searching all requests by full name or some part with any status.
-     * It works same with name/surname and surname/name formats and with only part of full name by the way it have worse performance.
+     * It works same with name/surname and surname/name formats, with parts of words and with any case and whitespace.
      * The description of request will have dashed between symbols.
      * It can be sorted by date_created in ascending or descending order.
-     * Response paged by 5 elements.
+     * Response paged by 5 elements, header "X-Has-More" tells whether the next page exists.
      * Required Role: Operator.
      * Required HTTP method: GET.
-     * Correct response status code: 200 OK.
+     * Correct response status code: 200 OK with ETag, 304 NOT MODIFIED if header "If-None-Match" has the current ETag.
      * @param name consists of {@link String} as full name or some part of it.
      * @param sort consists of {@link String} type of sorting: "default" as ASC or "reverse" as DESC.
      * @param page consists of {@link int} number of page for pagination.
@@ -169,10 +326,42 @@ public class RequestController {
     @GetMapping("/requests/{name}")
     public ResponseEntity<?> getPersonRequests(@PathVariable("name") String name,
                                                @RequestParam(value = "sort", required = true, defaultValue = "default") String sort,
-                                               @RequestParam(value = "page", required = true, defaultValue = "0") int page) {
+                                               @RequestParam(value = "page", required = true, defaultValue = "0") int page,
+                                               WebRequest webRequest) {
+        if (isConditional(webRequest) && webRequest.checkNotModified(requestService.getPersonRequestsETag(name, sort, page)))
+            return null;
+
+        Slice<RequestResponseDTO> requests = requestService.getPersonRequests(name, sort, page);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .header(HAS_MORE_HEADER, String.valueOf(requests.hasNext()))
+                .eTag(pageETag(requests))
+                .body(requests.getContent());
+    }
+
+    /**
+     * Handle using for searching all requests by full name with any status in keyset (cursor) mode.
+     * The description of request will have dashed between symbols.
+     * It can be sorted by date_created in ascending or descending order.
+     * Response paged by 5 elements, next and previous pages are requested with returned cursors.
+     * Required Role: Operator.
+     * Required HTTP method: GET.
+     * Correct response status code: 200 OK.
+     * @param name consists of {@link String} as full name or some part of it.
+     * @param sort consists of {@link String} type of sorting: "default" as ASC or "reverse" as DESC.
+     * @param cursor consists of {@link String} opaque cursor from previous response, absent for the first page.
+     * @return ResponseEntity {@link RequestPageDTO}
+     * @throws IllegalArgumentException if cursor not correct.
+     */
+    @Secured({"ROLE_OPERATOR"})
+    @GetMapping("/requests/{name}/seek")
+    public ResponseEntity<RequestPageDTO> getPersonRequestsByCursor(@PathVariable("name") String name,
+                                                                    @RequestParam(value = "sort", required = true, defaultValue = "default") String sort,
+                                                                    @RequestParam(value = "cursor", required = false) String cursor) {
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(requestService.getPersonRequests(name, sort, page));
+                .body(requestService.getPersonRequestsByCursor(name, sort, cursor));
     }
 
     /**
@@ -181,10 +370,12 @@ public class RequestController {
      * Required Role: Operator.
      * Required HTTP method: POST.
      * Correct response status code: 200 OK.
-     * @param requestSetStageDTO consists of {@link Long} as requestID, {@link Long} as authorID, {@link String} as description of request.
+     * @param requestSetStageDTO consists of {@link Long} as requestID, {@link Long} as authorID, {@link String} as description of request,
+     *                           optional {@link Long} as version from the ETag of the request.
      * @return ResponseEntity {@link RequestResponseDTO}
      * @throws IdentifierMismatchException if request not found or authorID not equals to request authorID.
      * @throws ChangeStatusException if request status not "submitted".
+     * @throws RequestConflictException if request was changed concurrently or its version is not the given one.
      */
     @Secured({"ROLE_OPERATOR"})
     @PostMapping("/approve")
@@ -200,10 +391,12 @@ public class RequestController {
      * Required Role: Operator.
      * Required HTTP method: POST.
      * Correct response status code: 200 OK.
-     * @param requestSetStageDTO consists of {@link Long} as requestID, {@link Long} as authorID, {@link String} as description of request.
+     * @param requestSetStageDTO consists of {@link Long} as requestID, {@link Long} as authorID, {@link String} as description of request,
+     *                           optional {@link Long} as version from the ETag of the request.
      * @return ResponseEntity {@link RequestResponseDTO}
      * @throws IdentifierMismatchException if request not found or authorID not equals to request authorID.
      * @throws ChangeStatusException if request status not "submitted".
+     * @throws RequestConflictException if request was changed concurrently or its version is not the given one.
      */
     @Secured({"ROLE_OPERATOR"})
     @PostMapping("/reject")
@@ -213,6 +406,61 @@ public class RequestController {
                 .body(requestService.rejectRequest(requestSetStageDTO));
     }
 
+    /**
+     * Handle using for approve batch of requests by operator and changing their status to "approved".
+     * Only requests with status "submitted" are changed, the result is reported for every requestID.
+     * Required Role: Operator.
+     * Required HTTP method: POST.
+     * Correct response status code: 200 OK.
+     * @param requestBatchStageDTO consists of {@link List} of {@link Long} as requestIDs.
+     * @return ResponseEntity {@link List} of {@link RequestBatchResultDTO}
+     * @throws IllegalArgumentException if requestIDs are empty or exceed the batch size limit.
+     */
+    @Secured({"ROLE_OPERATOR"})
+    @PostMapping("/approve/batch")
+    public ResponseEntity<List<RequestBatchResultDTO>> approveRequests(@RequestBody RequestBatchStageDTO requestBatchStageDTO) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(requestService.approveRequests(requestBatchStageDTO));
+    }
+
+    /**
+     * Handle using for reject batch of requests by operator and changing their status to "rejected".
+     * Only requests with status "submitted" are changed, the result is reported for every requestID.
+     * Required Role: Operator.
+     * Required HTTP method: POST.
+     * Correct response status code: 200 OK.
+     * @param requestBatchStageDTO consists of {@link List} of {@link Long} as requestIDs.
+     * @return ResponseEntity {@link List} of {@link RequestBatchResultDTO}
+     * @throws IllegalArgumentException if requestIDs are empty or exceed the batch size limit.
+     */
+    @Secured({"ROLE_OPERATOR"})
+    @PostMapping("/reject/batch")
+    public ResponseEntity<List<RequestBatchResultDTO>> rejectRequests(@RequestBody RequestBatchStageDTO requestBatchStageDTO) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(requestService.rejectRequests(requestBatchStageDTO));
+    }
+
+    /*------------------------------------------- ADMIN ------------------------------------------*/
+
+    /**
+     * Handle using for import of requests with status "draft" from JSON lines, one request per line.
+     * The body is read line by line and saved in chunks, invalid lines are skipped and listed in the report.
+     * Required Role: Admin.
+     * Required HTTP method: POST.
+     * Correct response status code: 200 OK.
+     * @param body consists of lines of {@link RequestCreationDTO} in UTF-8.
+     * @return ResponseEntity {@link RequestImportReportDTO}
+     */
+    @Secured({"ROLE_ADMIN"})
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<RequestImportReportDTO> importRequests(InputStream body) throws IOException {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(requestImportService.importRequests(new InputStreamReader(body, StandardCharsets.UTF_8)));
+    }
+
     /*------------------------------------------- GENERAL ------------------------------------------*/
 
     /**
@@ -220,7 +468,7 @@ public class RequestController {
      * The description of request will have dashed between symbols.
      * Required Role: User, Operator.
      * Required HTTP method: GET.
-     * Correct response status code: 200 OK.
+     * Correct response status code: 200 OK with ETag, 304 NOT MODIFIED if header "If-None-Match" has the current ETag.
      * @param requestID consists of {@link Long}.
      * @return ResponseEntity {@link List} of {@link RequestResponseDTO}.
      * @throws IllegalArgumentException if sort or page not correct.
@@ -228,29 +476,87 @@ public class RequestController {
      */
     @Secured({"ROLE_USER", "ROLE_OPERATOR"})
     @GetMapping("/{requestID}")
-    public ResponseEntity<?> getRequest(@PathVariable("requestID") Long requestID) {
-        //extract role from authentication
-        String role = extractRole(SecurityContextHolder.getContext().getAuthentication());
+    public ResponseEntity<?> getRequest(@PathVariable("requestID") Long requestID, WebRequest webRequest) {
+        //resolve role from authentication
+        Role role = resolveRole(SecurityContextHolder.getContext().getAuthentication());
+
+        if (isConditional(webRequest)) {
+            Optional<String> eTag = requestService.getRequestETag(requestID, role);
+            if (eTag.isPresent() && webRequest.checkNotModified(eTag.get()))
+                return null;
+        }
+
+        RequestResponseDTO request = requestService.getRequest(requestID, role);
 
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(requestService.getRequest(requestID, role));
+                .eTag(RequestETags.ofRequest(requestID, request.getVersion(), role))
+                .body(request);
+    }
+
+    /**
+     * Handle using for export of all requests matching the filters, without pagination.
+     * Requests are written to response one by one as NDJSON (one JSON object per line) or CSV with header,
+     * ordered by date_created and ID in ascending order.
+     * User has to pass own userID, for operator the description of request will have dashed between symbols.
+     * Required Role: User, Operator.
+     * Required HTTP method: GET.
+     * Correct response status code: 200 OK.
+     * @param format consists of {@link String} "ndjson" or "csv".
+     * @param stage consists of {@link Stage} of requests, absent for any stage.
+     * @param userID consists of {@link Long} the ID of author, required for user.
+     * @param from consists of {@link LocalDate} first date_created in ISO format inclusive, absent for no limit.
+     * @param to consists of {@link LocalDate} last date_created in ISO format inclusive, absent for no limit.
+     * @throws IllegalArgumentException if format, stage or dates not correct or userID absent for user.
+     */
+    @Secured({"ROLE_USER", "ROLE_OPERATOR"})
+    @GetMapping("/export")
+    public void exportRequests(@RequestParam(value = "format", defaultValue = "ndjson") String format,
+                               @RequestParam(value = "stage", required = false) Stage stage,
+                               @RequestParam(value = "userID", required = false) Long userID,
+                               @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                               @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                               HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        RequestExportFilter filter = RequestExportFilter.of(stage, userID, from, to,
+                resolveRole(SecurityContextHolder.getContext().getAuthentication()));
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("requests." + exportFormat.getExtension())
+                .build()
+                .toString());
+
+        requestService.exportRequests(exportFormat, filter, response.getWriter());
+    }
+
+    /**
+     * Hide method which tells whether the client sent an ETag, only then the version is looked up before loading.
+     */
+    private boolean isConditional(WebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+    }
+
+    private String pageETag(Slice<RequestResponseDTO> requests) {
+        return RequestETags.ofPage(requests.getContent(), RequestResponseDTO::getRequestID,
+                RequestResponseDTO::getVersion, requests.hasNext());
     }
 
     /**
-     * Hide method which help to extract role from authentication.
+     * Hide method which help to resolve role from authentication in one pass over authorities.
+     * Operator role wins, otherwise the first role is returned or null if there is no role.
      */
-    private String extractRole(Authentication authentication) {
-        Optional<String> operatorRole = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .filter(auth -> auth.equals("ROLE_OPERATOR"))
-                .findFirst();
-        if (operatorRole.isPresent())
-            return "ROLE_OPERATOR";
-
-        return authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .findFirst()
-                .orElse(null);
+    private Role resolveRole(Authentication authentication) {
+        Role role = null;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            Role granted = Role.fromAuthority(authority.getAuthority());
+            if (granted == Role.OPERATOR)
+                return granted;
+            if (role == null)
+                role = granted;
+        }
+        return role;
     }
 }
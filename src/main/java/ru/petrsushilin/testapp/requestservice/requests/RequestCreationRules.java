@@ -0,0 +1,45 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestCreationDTO;
+
+import java.util.Optional;
+
+/**
+ * Checks of a new request which need no database: single, batch and write-behind creation and the import
+ * reject the same requests with the same messages. The author is checked by each of them with its own query.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public final class RequestCreationRules {
+    /**
+     * Length of the {@code requests.description} column.
+     */
+    public static final int DESCRIPTION_MAX_LENGTH = 255;
+
+    private RequestCreationRules() {
+    }
+
+    /**
+     * @return message of the first broken rule, empty if the request can be created.
+     */
+    public static Optional<String> violation(RequestCreationDTO request) {
+        if (request.getUserID() == null)
+            return Optional.of("User ID must not be empty.");
+        if (request.getDescription() == null || request.getDescription().isBlank())
+            return Optional.of("Description must not be empty.");
+        if (request.getDescription().length() > DESCRIPTION_MAX_LENGTH)
+            return Optional.of("Description cannot be longer than " + DESCRIPTION_MAX_LENGTH + " characters.");
+        return Optional.empty();
+    }
+
+    /**
+     * @throws IllegalArgumentException with the message of the first broken rule.
+     */
+    public static void validate(RequestCreationDTO request) {
+        Optional<String> violation = violation(request);
+        if (violation.isPresent())
+            throw new IllegalArgumentException(violation.get());
+    }
+}
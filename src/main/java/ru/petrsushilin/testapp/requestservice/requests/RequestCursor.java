@@ -0,0 +1,68 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque position inside a keyset ordered listing.
+ * Keeps the (created_at, id) key of the boundary request and the direction of the seek,
+ * so the client only passes back the encoded string it received.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public class RequestCursor {
+    private static final String FORWARD = "N";
+    private static final String BACKWARD = "P";
+    private static final String SEPARATOR = ":";
+
+    private final LocalDate createdAt;
+    private final Long id;
+    private final boolean backward;
+
+    private RequestCursor(LocalDate createdAt, Long id, boolean backward) {
+        this.createdAt = createdAt;
+        this.id = id;
+        this.backward = backward;
+    }
+
+    public static RequestCursor after(Request request) {
+        return new RequestCursor(request.getCreatedAt(), request.getId(), false);
+    }
+
+    public static RequestCursor before(Request request) {
+        return new RequestCursor(request.getCreatedAt(), request.getId(), true);
+    }
+
+    public static RequestCursor decode(String value) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR);
+            if (parts.length != 3 || !(parts[0].equals(FORWARD) || parts[0].equals(BACKWARD)))
+                throw new IllegalArgumentException("Cursor " + value + " is malformed.");
+            return new RequestCursor(LocalDate.parse(parts[1]), Long.valueOf(parts[2]), parts[0].equals(BACKWARD));
+        } catch (DateTimeParseException | IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Cursor " + value + " is malformed.");
+        }
+    }
+
+    public String encode() {
+        String raw = (backward ? BACKWARD : FORWARD) + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDate getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public boolean isBackward() {
+        return backward;
+    }
+}
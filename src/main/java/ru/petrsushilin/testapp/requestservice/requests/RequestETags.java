@@ -0,0 +1,48 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Weak ETags of request responses derived from the version column, which every update and stage transition increments.
+ * A page is tagged by IDs and versions of its rows in order and whether the next page exists,
+ * so the tag changes when a row on the page changes, enters or leaves it.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public final class RequestETags {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private RequestETags() {
+    }
+
+    /**
+     * Operator gets description with dashes, so the tag depends on the role too.
+     */
+    public static String ofRequest(Long requestID, Long version, Role role) {
+        return "W/\"" + requestID + "-" + version + (role == Role.OPERATOR ? "-o" : "-u") + "\"";
+    }
+
+    public static <T> String ofPage(List<T> rows, Function<T, Long> id, Function<T, Long> version, boolean hasNext) {
+        long hash = FNV_OFFSET;
+        for (T row : rows) {
+            hash = mix(hash, id.apply(row));
+            hash = mix(hash, version.apply(row));
+        }
+        hash = mix(hash, hasNext ? 1 : 0);
+        return "W/\"" + rows.size() + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    private static long mix(long hash, long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash ^= (value >>> shift) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,63 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+import java.time.LocalDate;
+
+/**
+ * Filters of request export, checked before anything is written to the response.
+ * Absent filters are null, dates are inclusive.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public final class RequestExportFilter {
+    private final Stage stage;
+    private final Long userID;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final boolean operator;
+
+    private RequestExportFilter(Stage stage, Long userID, LocalDate from, LocalDate to, boolean operator) {
+        this.stage = stage;
+        this.userID = userID;
+        this.from = from;
+        this.to = to;
+        this.operator = operator;
+    }
+
+    /**
+     * @throws IllegalArgumentException if user does not pass userID or the date range is empty.
+     */
+    public static RequestExportFilter of(Stage stage, Long userID, LocalDate from, LocalDate to, Role role) {
+        boolean operator = role == Role.OPERATOR;
+        if (!operator && userID == null)
+            throw new IllegalArgumentException("User ID is required to export requests of user.");
+        if (from != null && to != null && from.isAfter(to))
+            throw new IllegalArgumentException("Date from must not be after date to.");
+
+        return new RequestExportFilter(stage, userID, from, to, operator);
+    }
+
+    public Stage getStage() {
+        return stage;
+    }
+
+    public Long getUserID() {
+        return userID;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public boolean isOperator() {
+        return operator;
+    }
+}
@@ -0,0 +1,101 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestResponseDTO;
+import ru.petrsushilin.testapp.requestservice.requests.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes exported requests row by row: NDJSON with one {@link RequestResponseDTO} per line
+ * or CSV with a header and quoted fields (RFC 4180). Nothing is buffered apart from the writer itself.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Component
+public class RequestExportWriter {
+    private static final String CSV_HEADER = "requestID,createdAt,userID,userName,userSurname,stage,description";
+
+    private final ObjectWriter jsonWriter;
+
+    @Autowired
+    public RequestExportWriter(ObjectMapper objectMapper) {
+        this.jsonWriter = objectMapper
+                .writerFor(RequestResponseDTO.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+    }
+
+    /**
+     * @return number of written requests.
+     */
+    public long write(Stream<RequestResponseDTO> requests, ExportFormat format, Writer writer) throws IOException {
+        if (format == ExportFormat.CSV)
+            writer.write(CSV_HEADER + "\r\n");
+
+        long count = 0;
+        Iterator<RequestResponseDTO> iterator = requests.iterator();
+        while (iterator.hasNext()) {
+            RequestResponseDTO request = iterator.next();
+            if (format == ExportFormat.CSV)
+                writeCsv(request, writer);
+            else
+                writeJson(request, writer);
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    /*------------------------------------------- HIDE ------------------------------------------*/
+
+    private void writeJson(RequestResponseDTO request, Writer writer) throws IOException {
+        jsonWriter.writeValue(writer, request);
+        writer.write('\n');
+    }
+
+    private void writeCsv(RequestResponseDTO request, Writer writer) throws IOException {
+        writer.write(String.valueOf(request.getRequestID()));
+        writer.write(',');
+        writer.write(String.valueOf(request.getCreatedAt()));
+        writer.write(',');
+        writer.write(String.valueOf(request.getUserID()));
+        writer.write(',');
+        writeCsvField(request.getUserName(), writer);
+        writer.write(',');
+        writeCsvField(request.getUserSurname(), writer);
+        writer.write(',');
+        writer.write(request.getStage());
+        writer.write(',');
+        writeCsvField(request.getDescription(), writer);
+        writer.write("\r\n");
+    }
+
+    private void writeCsvField(String value, Writer writer) throws IOException {
+        if (value == null)
+            return;
+
+        boolean quoted = false;
+        for (int i = 0; i < value.length() && !quoted; i++) {
+            char c = value.charAt(i);
+            quoted = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quoted) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,54 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestImportReportDTO;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command line import of requests from a JSON lines file, for loads too big for an HTTP call:
+ * {@code java -jar RequestService-exec.jar --app.import.file=requests.jsonl --spring.main.web-application-type=none}.
+ * Without a web server the application exits after the import, with status 1 if some lines failed.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Component
+@ConditionalOnProperty("app.import.file")
+public class RequestImportRunner implements ApplicationRunner {
+    private final RequestImportService requestImportService;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${app.import.file}")
+    private Path file;
+
+    @Autowired
+    public RequestImportRunner(RequestImportService requestImportService, ConfigurableApplicationContext context) {
+        this.requestImportService = requestImportService;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        RequestImportReportDTO report;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            report = requestImportService.importRequests(reader);
+        }
+
+        if (!(context instanceof WebServerApplicationContext))
+            System.exit(SpringApplication.exit(context, () -> report.getFailed() == 0 ? 0 : 1));
+    }
+}
@@ -0,0 +1,197 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestCreationDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestImportErrorDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestImportReportDTO;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.users.User;
+import ru.petrsushilin.testapp.requestservice.users.UserRepository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Imports drafts from JSON lines, one {@link RequestCreationDTO} per line.
+ * Lines are read one by one and persisted in chunks of {@code app.import.chunkSize}, every chunk in its own
+ * transaction: authors of a chunk are checked with one query, requests are inserted by JDBC batches
+ * of Hibernate with pooled sequence IDs, like {@link RequestService#createRequests}.
+ * Lines which break {@link RequestCreationRules} or have no author are reported and skipped, they do not stop the import.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Service
+public class RequestImportService {
+    private static final Logger log = LoggerFactory.getLogger(RequestImportService.class);
+
+
+    private final UserRepository userRepository;
+    private final RequestStageMetrics requestStageMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader lineReader;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.import.chunkSize}")
+    private int chunkSize;
+
+    @Value("${app.import.maxReportedErrors}")
+    private int maxReportedErrors;
+
+    @Autowired
+    public RequestImportService(UserRepository userRepository,
+                                RequestStageMetrics requestStageMetrics,
+                                PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper) {
+        this.userRepository = userRepository;
+        this.requestStageMetrics = requestStageMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lineReader = objectMapper.readerFor(RequestCreationDTO.class);
+    }
+
+    public RequestImportReportDTO importRequests(Reader input) throws IOException {
+        long started = System.nanoTime();
+        Report report = new Report(maxReportedErrors);
+
+        BufferedReader reader = input instanceof BufferedReader ? (BufferedReader) input : new BufferedReader(input);
+        List<Line> chunk = new ArrayList<>(chunkSize);
+        long number = 0;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            number++;
+            if (text.isBlank())
+                continue;
+            report.lines++;
+
+            Line line = parse(number, text, report);
+            if (line == null)
+                continue;
+            chunk.add(line);
+            if (chunk.size() == chunkSize) {
+                persistChunk(chunk, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty())
+            persistChunk(chunk, report);
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Imported {} of {} requests in {} ms, {} lines failed",
+                report.imported, report.lines, elapsedMillis, report.failed);
+        report.errors.sort(Comparator.comparingLong(RequestImportErrorDTO::getLine));
+        return new RequestImportReportDTO(report.lines, report.imported, report.failed, elapsedMillis, report.errors);
+    }
+
+    /*------------------------------------------- HIDE ------------------------------------------*/
+
+    private Line parse(long number, String text, Report report) {
+        RequestCreationDTO request;
+        try {
+            request = lineReader.readValue(text);
+        } catch (JsonProcessingException ex) {
+            report.fail(number, "Line is not a request: " + ex.getOriginalMessage());
+            return null;
+        }
+
+        Optional<String> violation = RequestCreationRules.violation(request);
+        if (violation.isPresent()) {
+            report.fail(number, violation.get());
+            return null;
+        }
+        return new Line(number, request);
+    }
+
+    private void persistChunk(List<Line> chunk, Report report) {
+        Set<Long> userIDs = new HashSet<>();
+        chunk.forEach(line -> userIDs.add(line.request.getUserID()));
+
+        Set<Long> failed = new HashSet<>();
+        Integer imported;
+        try {
+            imported = transactionTemplate.execute(status -> {
+                Set<Long> authors = new HashSet<>(userRepository.findExistingIDs(userIDs));
+                LocalDate createdAt = LocalDate.now();
+
+                int persisted = 0;
+                for (Line line : chunk) {
+                    if (!authors.contains(line.request.getUserID())) {
+                        failed.add(line.number);
+                        continue;
+                    }
+                    Request request = new Request();
+                    request.setUser(entityManager.getReference(User.class, line.request.getUserID()));
+                    request.setCreatedAt(createdAt);
+                    request.setStage(Stage.DRAFT);
+                    request.setDescription(line.request.getDescription());
+                    entityManager.persist(request);
+                    persisted++;
+                }
+                entityManager.flush();
+                entityManager.clear();
+                return persisted;
+            });
+        } catch (DataAccessException ex) {
+            log.warn("Chunk of {} requests from line {} was not imported", chunk.size(), chunk.get(0).number, ex);
+            chunk.forEach(line -> report.fail(line.number, "Chunk was not saved: " + ex.getMostSpecificCause().getMessage()));
+            return;
+        }
+
+        for (Line line : chunk) {
+            if (failed.contains(line.number))
+                report.fail(line.number, "User with ID " + line.request.getUserID() + " not found");
+        }
+        report.imported += imported;
+        requestStageMetrics.transitioned(Stage.DRAFT, imported);
+    }
+
+    private static final class Line {
+        private final long number;
+        private final RequestCreationDTO request;
+
+        private Line(long number, RequestCreationDTO request) {
+            this.number = number;
+            this.request = request;
+        }
+    }
+
+    private static final class Report {
+        private final int maxErrors;
+        private final List<RequestImportErrorDTO> errors = new ArrayList<>();
+        private long lines;
+        private long imported;
+        private long failed;
+
+        private Report(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < maxErrors)
+                errors.add(new RequestImportErrorDTO(line, message));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.users.PersonNameQuery;
+
+import java.util.List;
+
+/**
+ * Keyset (seek) queries over requests ordered by (created_at, id).
+ * Each method returns at most {@code limit} rows strictly after the cursor key in the given direction
+ * and never issues a count query.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public interface RequestKeysetRepository {
+    List<Request> findRequestsByUserIDSeek(Long userID, RequestCursor cursor, boolean ascending, int limit);
+
+    List<Request> findRequestsByStageSeek(Stage stage, RequestCursor cursor, boolean ascending, int limit);
+
+    List<Request> findRequestsByPersonNameSeek(PersonNameQuery query, RequestCursor cursor, boolean ascending, int limit);
+}
@@ -0,0 +1,82 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.users.PersonNameQuery;
+import ru.petrsushilin.testapp.requestservice.users.User;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.*;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Criteria based implementation of {@link RequestKeysetRepository}.
+ * The author is fetched in the same statement because every listing maps user name and surname.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public class RequestKeysetRepositoryImpl implements RequestKeysetRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Request> findRequestsByUserIDSeek(Long userID, RequestCursor cursor, boolean ascending, int limit) {
+        return seek((cb, request, user) -> cb.equal(user.get("id"), userID), cursor, ascending, limit);
+    }
+
+    @Override
+    public List<Request> findRequestsByStageSeek(Stage stage, RequestCursor cursor, boolean ascending, int limit) {
+        return seek((cb, request, user) -> cb.equal(request.get("stage"), stage), cursor, ascending, limit);
+    }
+
+    @Override
+    public List<Request> findRequestsByPersonNameSeek(PersonNameQuery query,
+                                                      RequestCursor cursor, boolean ascending, int limit) {
+        return seek((cb, request, user) -> query.toPredicate(cb, user.get("searchName")), cursor, ascending, limit);
+    }
+
+    /*------------------------------------------- HIDE ------------------------------------------*/
+
+    @SuppressWarnings("unchecked")
+    private List<Request> seek(KeysetFilter filter, RequestCursor cursor, boolean ascending, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Request> query = cb.createQuery(Request.class);
+        Root<Request> request = query.from(Request.class);
+        Join<Request, User> user = (Join<Request, User>) request.<Request, User>fetch("user", JoinType.INNER);
+
+        Path<LocalDate> createdAt = request.get("createdAt");
+        Path<Long> id = request.get("id");
+
+        Predicate predicate = filter.toPredicate(cb, request, user);
+        if (cursor != null) {
+            // JPA has no row value comparison and PostgreSQL does not seek by the OR below,
+            // the redundant bound on created_at is the index condition which starts the scan at the cursor
+            predicate = cb.and(predicate, ascending ?
+                    cb.greaterThanOrEqualTo(createdAt, cursor.getCreatedAt()) :
+                    cb.lessThanOrEqualTo(createdAt, cursor.getCreatedAt()));
+            predicate = cb.and(predicate, ascending ?
+                    cb.or(cb.greaterThan(createdAt, cursor.getCreatedAt()),
+                            cb.and(cb.equal(createdAt, cursor.getCreatedAt()), cb.greaterThan(id, cursor.getId()))) :
+                    cb.or(cb.lessThan(createdAt, cursor.getCreatedAt()),
+                            cb.and(cb.equal(createdAt, cursor.getCreatedAt()), cb.lessThan(id, cursor.getId()))));
+        }
+
+        query.select(request)
+                .where(predicate)
+                .orderBy(ascending ?
+                        List.of(cb.asc(createdAt), cb.asc(id)) :
+                        List.of(cb.desc(createdAt), cb.desc(id)));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @FunctionalInterface
+    private interface KeysetFilter {
+        Predicate toPredicate(CriteriaBuilder cb, Root<Request> request, Join<Request, User> user);
+    }
+}
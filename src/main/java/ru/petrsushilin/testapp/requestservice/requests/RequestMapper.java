@@ -17,18 +17,32 @@ import ru.petrsushilin.testapp.requestservice.requests.dto.RequestSetStageDTO;
 public interface RequestMapper {
     RequestMapper INSTANCE = Mappers.getMapper(RequestMapper.class);
 
+    /**
+     * The author is loaded and set by the caller, ID and version are assigned by Hibernate on persist.
+     */
+    @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "stage", ignore = true)
+    @Mapping(target = "user", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Request toEntity(RequestCreationDTO dto);
 
+    @Mapping(target = "id", source = "requestID")
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "user", ignore = true)
     @Mapping(target = "stage", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Request toEntity(RequestMessageDTO dto);
 
+    /**
+     * The version is the one the client has seen, as in the ETag of the request, the current stage is not the new one.
+     */
+    @Mapping(target = "id", source = "requestID")
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "user", ignore = true)
+    @Mapping(target = "stage", ignore = true)
     @Mapping(target = "description", ignore = true)
+    @Mapping(target = "version", source = "version")
     Request toEntity (RequestSetStageDTO requestSetStageDTO);
 
     @Mapping(target = "requestID", source = "id")
@@ -36,7 +50,8 @@ public interface RequestMapper {
     @Mapping(target = "userID", source = "user.id")
     @Mapping(target = "userName", source = "user.name")
     @Mapping(target = "userSurname", source = "user.surname")
-    @Mapping(target = "stage", source = "stage.name")
+    @Mapping(target = "stage", source = "stage")
     @Mapping(target = "description", source = "description")
+    @Mapping(target = "version", source = "version")
     RequestResponseDTO toRequestResponseDTO(Request entity);
 }
@@ -1,13 +1,21 @@
 package ru.petrsushilin.testapp.requestservice.requests;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import ru.petrsushilin.testapp.requestservice.HibernateConfig;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestResponseDTO;
 import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,17 +24,85 @@ import java.util.Optional;
  * @since 05.05.2024
  */
 @Repository
-public interface RequestRepository extends JpaRepository<Request, Long> {
-    @Query(value = "SELECT r FROM Request r JOIN FETCH r.user u WHERE u.id = :userID",
-            countQuery = "SELECT count(r) FROM Request r WHERE r.user.id = :userID")
-    Page<Request> findRequestsByUserID(@Param("userID") Long userID, Pageable pageable);
+public interface RequestRepository extends JpaRepository<Request, Long>, RequestKeysetRepository, RequestSearchRepository {
+    /**
+     * Listings select response columns directly, no entity is hydrated or kept in the persistence context.
+     */
+    String RESPONSE_PROJECTION = "SELECT new ru.petrsushilin.testapp.requestservice.requests.dto.RequestResponseDTO(" +
+            "r.id, r.createdAt, u.id, u.name, u.surname, r.stage, r.description, r.version) FROM Request r JOIN r.user u ";
 
-    Page<Request> findRequestsByStage(Stage stage, Pageable pageable);
+    /**
+     * Identifiers and versions of listing rows for ETags of conditional requests, the user is not joined.
+     */
+    String VERSION_PROJECTION = "SELECT r.id AS id, r.version AS version FROM Request r ";
 
-    @Query("SELECT r FROM Request r JOIN r.user u WHERE " +
-            "(u.name = :namePart1 AND u.surname = :namePart2) OR (u.name = :namePart2 AND u.surname = :namePart1)")
-    Page<Request> findRequestsByPersonName(@Param("namePart1") String namePart1, @Param("namePart2") String namePart2, Pageable pageable);
+    @Query(RESPONSE_PROJECTION + "WHERE u.id = :userID")
+    Slice<RequestResponseDTO> findRequestsByUserID(@Param("userID") Long userID, Pageable pageable);
+
+    @Query(RESPONSE_PROJECTION + "WHERE r.stage = :stage")
+    Slice<RequestResponseDTO> findRequestsByStage(@Param("stage") Stage stage, Pageable pageable);
+
+    @Query(VERSION_PROJECTION + "WHERE r.user.id = :userID")
+    Slice<RequestVersionView> findVersionsByUserID(@Param("userID") Long userID, Pageable pageable);
+
+    @Query(VERSION_PROJECTION + "WHERE r.stage = :stage")
+    Slice<RequestVersionView> findVersionsByStage(@Param("stage") Stage stage, Pageable pageable);
+
+    @Query("SELECT r.version FROM Request r WHERE r.id = :requestID")
+    Optional<Long> findVersionById(@Param("requestID") Long requestID);
+
+    /**
+     * Same rows as {@link #findRequestsByStage}, cached in the query cache when it is enabled.
+     * Cached pages are invalidated by any write to the requests table, stage transitions included.
+     */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHE_REGION, value = HibernateConfig.SUBMITTED_REQUESTS_REGION)
+    })
+    @Query(RESPONSE_PROJECTION + "WHERE r.stage = :stage")
+    Slice<RequestResponseDTO> findCachedRequestsByStage(@Param("stage") Stage stage, Pageable pageable);
+
+    long countByStage(Stage stage);
+
+    @Query(RESPONSE_PROJECTION + "WHERE r.stage = :stage")
+    List<RequestResponseDTO> findAllRequestsByStage(@Param("stage") Stage stage);
+
+    @Query(RESPONSE_PROJECTION + "WHERE r.id IN :requestIDs")
+    List<RequestResponseDTO> findRequestsByIDs(@Param("requestIDs") Collection<Long> requestIDs);
+
+    @Query(VERSION_PROJECTION + "WHERE r.stage = :stage")
+    List<RequestVersionView> findAllVersionsByStage(@Param("stage") Stage stage);
 
     @Query("SELECT r FROM Request r JOIN FETCH r.user u WHERE r.id = :requestID")
     Optional<Request> findByIdForUpdate(Long requestID);
+
+    @EntityGraph(attributePaths = "user")
+    Optional<Request> findWithUserById(Long requestID);
+
+    @Query("SELECT r.id AS id, r.stage AS stage FROM Request r WHERE r.id IN :requestIDs")
+    List<RequestStageView> findStagesByIDs(@Param("requestIDs") Collection<Long> requestIDs);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Request r SET r.stage = :newStage, r.version = r.version + 1 " +
+            "WHERE r.id = :requestID AND r.user.id = :userID AND r.stage = :currentStage")
+    int updateStage(@Param("requestID") Long requestID,
+                    @Param("userID") Long userID,
+                    @Param("currentStage") Stage currentStage,
+                    @Param("newStage") Stage newStage);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Request r SET r.stage = :newStage, r.version = r.version + 1 " +
+            "WHERE r.id = :requestID AND r.user.id = :userID AND r.stage = :currentStage AND r.version = :version")
+    int updateStageOfVersion(@Param("requestID") Long requestID,
+                             @Param("userID") Long userID,
+                             @Param("currentStage") Stage currentStage,
+                             @Param("newStage") Stage newStage,
+                             @Param("version") Long version);
+
+    @Modifying
+    @Query("UPDATE Request r SET r.stage = :newStage, r.version = r.version + 1 " +
+            "WHERE r.id IN :requestIDs AND r.stage = :currentStage")
+    int updateStages(@Param("requestIDs") Collection<Long> requestIDs,
+                     @Param("currentStage") Stage currentStage,
+                     @Param("newStage") Stage newStage);
 }
@@ -0,0 +1,34 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestResponseDTO;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.users.PersonNameQuery;
+
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+/**
+ * Requests of persons found by {@link PersonNameQuery}, ordered by the sort of the pageable,
+ * and a forward-only stream of requests for export.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public interface RequestSearchRepository {
+    Slice<RequestResponseDTO> findRequestsByPersonName(PersonNameQuery query, Pageable pageable);
+
+    /**
+     * Identifiers and versions of the same page as {@link #findRequestsByPersonName}, for its ETag.
+     */
+    Slice<RequestVersionView> findVersionsByPersonName(PersonNameQuery query, Pageable pageable);
+
+    /**
+     * Requests ordered by (date_created, id), every filter is skipped when null and dates are inclusive.
+     * Rows are fetched by {@code fetchSize} from a server side cursor, so the stream must be consumed
+     * and closed inside a transaction.
+     */
+    Stream<RequestResponseDTO> streamRequests(Stage stage, Long userID, LocalDate from, LocalDate to, int fetchSize);
+}
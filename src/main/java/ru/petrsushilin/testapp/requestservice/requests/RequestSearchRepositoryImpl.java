@@ -0,0 +1,124 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestResponseDTO;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.users.PersonNameQuery;
+import ru.petrsushilin.testapp.requestservice.users.User;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Criteria based implementation of {@link RequestSearchRepository}, rows are selected straight into DTOs
+ * like {@link RequestRepository#RESPONSE_PROJECTION}.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public class RequestSearchRepositoryImpl implements RequestSearchRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static Selection<RequestResponseDTO> toResponse(CriteriaBuilder cb, Root<Request> request, Join<Request, User> user) {
+        return cb.construct(RequestResponseDTO.class,
+                request.get("id"), request.get("createdAt"),
+                user.get("id"), user.get("name"), user.get("surname"),
+                request.get("stage"), request.get("description"), request.get("version"));
+    }
+
+    @Override
+    public Slice<RequestResponseDTO> findRequestsByPersonName(PersonNameQuery nameQuery, Pageable pageable) {
+        return findPageByPersonName(nameQuery, pageable, RequestResponseDTO.class,
+                (cb, request, user) -> toResponse(cb, request, user));
+    }
+
+    @Override
+    public Slice<RequestVersionView> findVersionsByPersonName(PersonNameQuery nameQuery, Pageable pageable) {
+        return findPageByPersonName(nameQuery, pageable, Tuple.class,
+                (cb, request, user) -> cb.tuple(request.get("id"), request.get("version")))
+                .map(RequestSearchRepositoryImpl::toVersionView);
+    }
+
+    @Override
+    public Stream<RequestResponseDTO> streamRequests(Stage stage, Long userID, LocalDate from, LocalDate to, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RequestResponseDTO> query = cb.createQuery(RequestResponseDTO.class);
+        Root<Request> request = query.from(Request.class);
+        Join<Request, User> user = request.join("user", JoinType.INNER);
+
+        List<Predicate> predicates = new ArrayList<>(4);
+        if (stage != null)
+            predicates.add(cb.equal(request.get("stage"), stage));
+        if (userID != null)
+            predicates.add(cb.equal(user.get("id"), userID));
+        if (from != null)
+            predicates.add(cb.greaterThanOrEqualTo(request.get("createdAt"), from));
+        if (to != null)
+            predicates.add(cb.lessThanOrEqualTo(request.get("createdAt"), to));
+
+        query.select(toResponse(cb, request, user))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(request.get("createdAt")), cb.asc(request.get("id")));
+
+        // DTOs are not managed, the persistence context stays empty however many rows are read
+        return entityManager.createQuery(query)
+                .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(QueryHints.HINT_READONLY, true)
+                .getResultStream();
+    }
+
+    /*------------------------------------------- HIDE ------------------------------------------*/
+
+    private <T> Slice<T> findPageByPersonName(PersonNameQuery nameQuery, Pageable pageable, Class<T> resultClass,
+                                              PageSelection<T> selection) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(resultClass);
+        Root<Request> request = query.from(Request.class);
+        Join<Request, User> user = request.join("user", JoinType.INNER);
+
+        query.select(selection.select(cb, request, user))
+                .where(nameQuery.toPredicate(cb, user.get("searchName")))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), request, cb));
+
+        List<T> rows = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    private static RequestVersionView toVersionView(Tuple row) {
+        Long id = row.get(0, Long.class);
+        Long version = row.get(1, Long.class);
+        return new RequestVersionView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface PageSelection<T> {
+        Selection<T> select(CriteriaBuilder cb, Root<Request> request, Join<Request, User> user);
+    }
+}
@@ -1,23 +1,48 @@
 package ru.petrsushilin.testapp.requestservice.requests;
 
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.petrsushilin.testapp.requestservice.global.exceptions.ChangeStatusException;
 import ru.petrsushilin.testapp.requestservice.global.exceptions.IdentifierMismatchException;
+import ru.petrsushilin.testapp.requestservice.global.exceptions.RequestConflictException;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestBatchResultDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestBatchStageDTO;
 import ru.petrsushilin.testapp.requestservice.requests.dto.RequestCreationDTO;
 import ru.petrsushilin.testapp.requestservice.requests.dto.RequestMessageDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestPageDTO;
 import ru.petrsushilin.testapp.requestservice.requests.dto.RequestResponseDTO;
 import ru.petrsushilin.testapp.requestservice.requests.dto.RequestSetStageDTO;
+import ru.petrsushilin.testapp.requestservice.requests.enums.ExportFormat;
 import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
-
+import ru.petrsushilin.testapp.requestservice.requests.enums.TransitionResult;
+import ru.petrsushilin.testapp.requestservice.requests.outbox.RequestOutbox;
+import ru.petrsushilin.testapp.requestservice.users.PersonNameQuery;
+import ru.petrsushilin.testapp.requestservice.users.User;
+import ru.petrsushilin.testapp.requestservice.users.UserRepository;
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+import java.io.IOException;
+import java.io.Writer;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author Petr Sushilin
@@ -27,15 +52,51 @@ import java.util.stream.Collectors;
 @Service
 public class RequestService {
     private final RequestRepository requestRepository;
+    private final DescriptionFormatter descriptionFormatter;
+    private final RequestStageMetrics requestStageMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Optional<SubmittedRequestIndex> submittedRequestIndex;
+    private final RequestExportWriter requestExportWriter;
+    private final Optional<RequestWriteBehind> requestWriteBehind;
+    private final RequestOutbox requestOutbox;
+    private final UserRepository userRepository;
 
     @Autowired
-    public RequestService(RequestRepository requestRepository) {
+    public RequestService(RequestRepository requestRepository,
+                          DescriptionFormatter descriptionFormatter,
+                          RequestStageMetrics requestStageMetrics,
+                          ApplicationEventPublisher eventPublisher,
+                          Optional<SubmittedRequestIndex> submittedRequestIndex,
+                          RequestExportWriter requestExportWriter,
+                          Optional<RequestWriteBehind> requestWriteBehind,
+                          RequestOutbox requestOutbox,
+                          UserRepository userRepository) {
         this.requestRepository = requestRepository;
+        this.descriptionFormatter = descriptionFormatter;
+        this.requestStageMetrics = requestStageMetrics;
+        this.eventPublisher = eventPublisher;
+        this.submittedRequestIndex = submittedRequestIndex;
+        this.requestExportWriter = requestExportWriter;
+        this.requestWriteBehind = requestWriteBehind;
+        this.requestOutbox = requestOutbox;
+        this.userRepository = userRepository;
     }
 
     @Value("${app.pagination.defaultPageSize}")
     private int defaultPageSize;
 
+    @Value("${app.pagination.cachedPages}")
+    private int cachedPages;
+
+    @Value("${app.batch.maxSize}")
+    private int batchMaxSize;
+
+    @Value("${app.batch.chunkSize}")
+    private int batchChunkSize;
+
+    @Value("${app.export.fetchSize}")
+    private int exportFetchSize;
+
     /*------------------------------------------- HIDE ------------------------------------------*/
 
     private Pageable getPageable(int page, String sortDir) {
@@ -47,66 +108,314 @@ public class RequestService {
         return Sort
                 .by(sortDir.equalsIgnoreCase("reverse") ?
                         Sort.Direction.DESC : Sort.Direction.ASC,
-                        "createdAt");
+                        "createdAt", "id");
     }
 
-    private Request changeRequestStage(Long requestID, Long userID, Stage newStage) {
-        return requestRepository
-                .findById(requestID)
-                .map(request -> {
-                    if (!request.getUser().getId().equals(userID))
-                        throw new IdentifierMismatchException("User id does not match with request author's ID.");
-                    request.setStage(newStage);
-                    requestRepository.save(request);
-                    return request;
-                })
+    /**
+     * Seeks one page after (or before) the cursor key and builds cursors for the neighbouring pages.
+     * One extra row is requested to know whether there is a page further in the seek direction.
+     */
+    private RequestPageDTO getKeysetPage(String sortDir, String cursor, KeysetQuery query) {
+        RequestCursor requestCursor = cursor == null || cursor.isBlank() ? null : RequestCursor.decode(cursor);
+        boolean backward = requestCursor != null && requestCursor.isBackward();
+        boolean ascending = !sortDir.equalsIgnoreCase("reverse") ^ backward;
+
+        List<Request> requests = new ArrayList<>(query.find(requestCursor, ascending, defaultPageSize + 1));
+        boolean hasMore = requests.size() > defaultPageSize;
+        if (hasMore)
+            requests.remove(defaultPageSize);
+        if (backward)
+            Collections.reverse(requests);
+
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!requests.isEmpty()) {
+            if (backward || hasMore)
+                nextCursor = RequestCursor.after(requests.get(requests.size() - 1)).encode();
+            if (backward ? hasMore : requestCursor != null)
+                prevCursor = RequestCursor.before(requests.get(0)).encode();
+        }
+
+        List<RequestResponseDTO> content = requests.stream()
+                .map(RequestMapper.INSTANCE::toRequestResponseDTO)
+                .collect(Collectors.toList());
+
+        return new RequestPageDTO(content, nextCursor, prevCursor);
+    }
+
+    /**
+     * Changes the stage with one conditional update, so concurrent transitions are detected without locks.
+     * A given version, as in the ETag of the request, must be the current one too, a {@code null} version is not checked.
+     * A transition takes the update, one read and the outbox insert. The read is kept because the response carries
+     * the author and the creation date which the client did not send, and it explains why nothing was updated.
+     * It takes no lock: the update has already locked the row, so the read sees the row this transition wrote.
+     * UPDATE ... RETURNING would save it on PostgreSQL only, JPQL and H2 have no such statement.
+     */
+    private Request changeRequestStage(Long requestID, Long userID, Long version, Stage currentStage, Stage newStage) {
+        checkTransition(currentStage, newStage);
+
+        int updated = version == null
+                ? requestRepository.updateStage(requestID, userID, currentStage, newStage)
+                : requestRepository.updateStageOfVersion(requestID, userID, currentStage, newStage, version);
+
+        Request request = requestRepository
+                .findWithUserById(requestID)
                 .orElseThrow(() -> new IllegalArgumentException("Request with id " + requestID + " not found"));
+
+        if (updated == 0) {
+            if (!request.getUser().getId().equals(userID))
+                throw new IdentifierMismatchException("User id does not match with request author's ID.");
+            if (request.getStage() != currentStage)
+                throw new RequestConflictException("Request with id " + requestID + " has stage "
+                        + request.getStage() + " instead of " + currentStage + ".");
+            throw new RequestConflictException("Request with id " + requestID + " has version "
+                    + request.getVersion() + " instead of " + version + ".");
+        }
+
+        requestOutbox.record(List.of(requestID), currentStage, newStage);
+        requestStageMetrics.transitioned(newStage, 1);
+        eventPublisher.publishEvent(new RequestsChangedEvent(List.of(requestID), newStage));
+        return request;
+    }
+
+    /**
+     * Moves all requests which are in {@code currentStage} to {@code newStage} with set-based updates.
+     * Stages are validated with one query per chunk, the update keeps the stage condition,
+     * so a request changed concurrently between the check and the update is reported as a conflict.
+     */
+    private List<RequestBatchResultDTO> changeRequestStages(List<Long> requestIDs, Stage currentStage, Stage newStage) {
+        checkTransition(currentStage, newStage);
+        if (requestIDs == null || requestIDs.isEmpty())
+            throw new IllegalArgumentException("Request ids must not be empty.");
+
+        List<Long> uniqueIDs = new ArrayList<>(new LinkedHashSet<>(requestIDs));
+        if (uniqueIDs.size() > batchMaxSize)
+            throw new IllegalArgumentException("Batch cannot contain more than " + batchMaxSize + " requests.");
+
+        List<RequestBatchResultDTO> results = new ArrayList<>(uniqueIDs.size());
+        for (int from = 0; from < uniqueIDs.size(); from += batchChunkSize) {
+            List<Long> chunk = uniqueIDs.subList(from, Math.min(from + batchChunkSize, uniqueIDs.size()));
+            results.addAll(changeChunkStages(chunk, currentStage, newStage));
+        }
+
+        requestStageMetrics.transitioned(newStage, results.stream()
+                .filter(result -> result.getResult().equals(TransitionResult.CHANGED.name()))
+                .count());
+        return results;
+    }
+
+    /**
+     * Loads authors of new requests with one query, so an unknown author is reported instead of failing the insert
+     * and the response has names of the authors.
+     *
+     * @throws IdentifierMismatchException if an author is not found.
+     */
+    private Map<Long, User> findAuthors(Set<Long> userIDs) {
+
+        Map<Long, User> authors = userRepository.findAllById(userIDs).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        if (authors.size() < userIDs.size()) {
+            List<Long> missing = userIDs.stream()
+                    .filter(userID -> !authors.containsKey(userID))
+                    .sorted()
+                    .collect(Collectors.toList());
+            throw new IdentifierMismatchException("Users with IDs " + missing + " not found");
+        }
+        return authors;
+    }
+
+    private void checkTransition(Stage currentStage, Stage newStage) {
+        if (!currentStage.canMoveTo(newStage))
+            throw new ChangeStatusException("Status " + currentStage + " cannot to be change to " + newStage + ".");
+    }
+
+    private List<RequestBatchResultDTO> changeChunkStages(List<Long> requestIDs, Stage currentStage, Stage newStage) {
+        Map<Long, Stage> stages = findStages(requestIDs);
+
+        Set<Long> candidates = requestIDs.stream()
+                .filter(id -> stages.get(id) == currentStage)
+                .collect(Collectors.toSet());
+
+        if (!candidates.isEmpty()
+                && requestRepository.updateStages(candidates, currentStage, newStage) < candidates.size()) {
+            // some requests were changed by another transaction after validation
+            stages.putAll(findStages(candidates));
+        } else {
+            candidates.forEach(id -> stages.put(id, newStage));
+        }
+        if (!candidates.isEmpty()) {
+            requestOutbox.record(candidates, currentStage, newStage);
+            eventPublisher.publishEvent(new RequestsChangedEvent(candidates, newStage));
+        }
+
+        return requestIDs.stream()
+                .map(id -> {
+                    Stage stage = stages.get(id);
+                    if (stage == null)
+                        return new RequestBatchResultDTO(id, TransitionResult.NOT_FOUND.name(), null);
+                    if (stage == newStage && candidates.contains(id))
+                        return new RequestBatchResultDTO(id, TransitionResult.CHANGED.name(), stage.name());
+                    return new RequestBatchResultDTO(id, TransitionResult.STAGE_CONFLICT.name(), stage.name());
+                })
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, Stage> findStages(Collection<Long> requestIDs) {
+        return requestRepository
+                .findStagesByIDs(requestIDs)
+                .stream()
+                .collect(Collectors.toMap(RequestStageView::getId, RequestStageView::getStage));
     }
 
     /*------------------------------------------- GENERAL ------------------------------------------*/
 
+    @Timed(value = "request.service", histogram = true)
     @Transactional(readOnly = true)
-    public RequestResponseDTO getRequest(Long requestID, String role) {
-        Request request = requestRepository.findById(requestID)
+    public RequestResponseDTO getRequest(Long requestID, Role role) {
+        Request request = requestRepository.findWithUserById(requestID)
                 .orElseThrow(() -> new IdentifierMismatchException("Request with id " + requestID + " not found"));
 
         RequestResponseDTO requestResponseDTO = RequestMapper.INSTANCE.toRequestResponseDTO(request);
 
         // set description for operator
-        if (role.equals("ROLE_OPERATOR")) {
+        if (role == Role.OPERATOR) {
             setOperatorDescriptions(requestResponseDTO);
         }
 
         return requestResponseDTO;
     }
 
+    /**
+     * Method find ETag of the request by one indexed lookup of its version, without loading the request.
+     *
+     * @return ETag or empty if request not found
+     */
+    @Timed(value = "request.service", histogram = true)
+    @Transactional(readOnly = true)
+    public Optional<String> getRequestETag(Long requestID, Role role) {
+        return requestRepository.findVersionById(requestID)
+                .map(version -> RequestETags.ofRequest(requestID, version, role));
+    }
+
+    /**
+     * Method write all requests matching the filter to the writer in (date_created, id) order.
+     * Rows are read through a forward-only cursor and written one by one, so memory does not depend on their number.
+     * Operator gets descriptions with dashes like in listings.
+     *
+     * @return number of exported requests
+     */
+    @Timed(value = "request.service", histogram = true)
+    @Transactional(readOnly = true)
+    public long exportRequests(ExportFormat format, RequestExportFilter filter, Writer writer) throws IOException {
+        try (Stream<RequestResponseDTO> requests = requestRepository.streamRequests(filter.getStage(),
+                filter.getUserID(), filter.getFrom(), filter.getTo(), exportFetchSize)) {
+            return requestExportWriter.write(filter.isOperator() ? requests.peek(this::setOperatorDescriptions) : requests,
+                    format, writer);
+        }
+    }
+
     /*------------------------------------------- USER METHODS ------------------------------------------*/
 
     /**
      * Method create new request and response created request with status "draft".
+     * Not transactional: with {@link RequestWriteBehind} the caller only waits for its batch
+     * and must not hold a connection meanwhile, otherwise the repository saves in its own transaction.
+     *
+     * The author is read from the second-level cache in most cases.
      *
      * @param requestCreationDTO: Long authorID, String description
      * @return requestResponseDTO: Long requestID, LocalDateTime dateCreated, Long authorID, String status, String description
+     * @throws IllegalArgumentException if the request breaks {@link RequestCreationRules}.
+     * @throws IdentifierMismatchException if the author is not found.
      */
-    @Transactional(rollbackFor = Exception.class)
+    @Timed(value = "request.service", histogram = true)
     public RequestResponseDTO createRequest(RequestCreationDTO requestCreationDTO) {
+        if (requestWriteBehind.isPresent())
+            return requestWriteBehind.get().create(requestCreationDTO);
+
+        RequestCreationRules.validate(requestCreationDTO);
+        Long userID = requestCreationDTO.getUserID();
+        User author = userRepository.findById(userID)
+                .orElseThrow(() -> new IdentifierMismatchException("User with ID " + userID + " not found"));
+
         Request request = RequestMapper.INSTANCE.toEntity(requestCreationDTO);
+        request.setUser(author);
 
         request.setCreatedAt(LocalDate.now());
         request.setStage(Stage.DRAFT);
 
-        return RequestMapper.INSTANCE.toRequestResponseDTO(requestRepository.save(request));
+        RequestResponseDTO requestResponseDTO = RequestMapper.INSTANCE.toRequestResponseDTO(requestRepository.save(request));
+        requestStageMetrics.transitioned(Stage.DRAFT, 1);
+
+        return requestResponseDTO;
     }
 
-    @Transactional(readOnly = true)
-    public List<RequestResponseDTO> getUserRequests(Long userID, String sortDir, int page) {
-        return requestRepository
-                .findRequestsByUserID(userID, getPageable(page, sortDir))
-                .stream()
+    /**
+     * Method create batch of new requests with status "draft" and flush them with JDBC batch inserts.
+     *
+     * @param requestCreationDTOs: list of Long authorID, String description
+     * @return list of requestResponseDTO in the same order
+     */
+    @Timed(value = "request.service", histogram = true)
+    @Transactional(rollbackFor = Exception.class)
+    public List<RequestResponseDTO> createRequests(List<RequestCreationDTO> requestCreationDTOs) {
+        if (requestCreationDTOs == null || requestCreationDTOs.isEmpty())
+            throw new IllegalArgumentException("Requests must not be empty.");
+        if (requestCreationDTOs.size() > batchMaxSize)
+            throw new IllegalArgumentException("Batch cannot contain more than " + batchMaxSize + " requests.");
+        requestCreationDTOs.forEach(RequestCreationRules::validate);
+
+        Map<Long, User> authors = findAuthors(requestCreationDTOs.stream()
+                .map(RequestCreationDTO::getUserID)
+                .collect(Collectors.toSet()));
+
+        LocalDate createdAt = LocalDate.now();
+        List<Request> requests = requestCreationDTOs.stream()
+                .map(requestCreationDTO -> {
+                    Request request = RequestMapper.INSTANCE.toEntity(requestCreationDTO);
+                    request.setUser(authors.get(requestCreationDTO.getUserID()));
+                    request.setCreatedAt(createdAt);
+                    request.setStage(Stage.DRAFT);
+                    return request;
+                })
+                .collect(Collectors.toList());
+
+        List<Request> saved = requestRepository.saveAll(requests);
+        requestRepository.flush();
+        requestStageMetrics.transitioned(Stage.DRAFT, saved.size());
+
+        return saved.stream()
                 .map(RequestMapper.INSTANCE::toRequestResponseDTO)
                 .collect(Collectors.toList());
     }
 
+    @Timed(value = "request.service", histogram = true)
+    @Transactional(readOnly = true)
+    public Slice<RequestResponseDTO> getUserRequests(Long userID, String sortDir, int page) {
+        return requestRepository
+                .findRequestsByUserID(userID, getPageable(page, sortDir));
+    }
+
+    /**
+     * Method find ETag of the same page as {@link #getUserRequests} from IDs and versions of its rows.
+     */
+    @Timed(value = "request.service", histogram = true)
+    @Transactional(readOnly = true)
+    public String getUserRequestsETag(Long userID, String sortDir, int page) {
+        Slice<RequestVersionView> versions = requestRepository.findVersionsByUserID(userID, getPageable(page, sortDir));
+        return RequestETags.ofPage(versions.getContent(), RequestVersionView::getId, RequestVersionView::getVersion,
+                versions.hasNext());
+    }
+
+    @Timed(value = "request.service", histogram = true)
+    @Transactional(readOnly = true)
+    public RequestPageDTO getUserRequestsByCursor(Long userID, String sortDir, String cursor) {
+        return getKeysetPage(sortDir, cursor,
+                (requestCursor, ascending, limit) ->
+                        requestRepository.findRequestsByUserIDSeek(userID, requestCursor, ascending, limit));
+    }
+
+    @Timed(value = "request.service", histogram = true)
     @Transactional(rollbackFor = Exception.class)
     public RequestResponseDTO updateRequestMessage(RequestMessageDTO requestMessageDTO) {
         return requestRepository
@@ -115,15 +424,17 @@ public class RequestService {
                     if (!request.getUser().getId().equals(requestMessageDTO.getAuthorID()))
                         throw new IdentifierMismatchException("User id does not match with request author's ID.");
                     request.setDescription(requestMessageDTO.getDescription());
+                    eventPublisher.publishEvent(new RequestsChangedEvent(List.of(request.getId())));
                     return RequestMapper.INSTANCE.toRequestResponseDTO(requestRepository.save(request));
                 })
                 .orElseThrow(() -> new IdentifierMismatchException("Request with id " + requestMessageDTO.getRequestID() + " not found"));
     }
 
+    @Timed(value = "request.service", histogram = true)
     @Transactional(rollbackFor = Exception.class)
     public RequestResponseDTO submitRequest(RequestSetStageDTO reqDTO) {
         if (reqDTO.getCurrentStage().equals(String.valueOf(Stage.DRAFT))) {
-            Request request = changeRequestStage(reqDTO.getRequestID(), reqDTO.getUserID(), Stage.SUBMITTED);
+            Request request = changeRequestStage(reqDTO.getRequestID(), reqDTO.getUserID(), reqDTO.getVersion(), Stage.DRAFT, Stage.SUBMITTED);
             return RequestMapper.INSTANCE.toRequestResponseDTO(request);
         }
         else
@@ -132,13 +443,22 @@ public class RequestService {
 
     // --------------------------------------- OPERATOR METHODS ---------------------------------------
 
-    @Transactional(readOnly = true)
-    public List<RequestResponseDTO> getOperatorRequests(String sortDir, int page) {
-        List<RequestResponseDTO> requests = requestRepository
-                .findRequestsByStage(Stage.SUBMITTED, getPageable(page, sortDir))
-                .stream()
-                .map(RequestMapper.INSTANCE::toRequestResponseDTO)
-                .collect(Collectors.toList());
+    /**
+     * Not transactional: a page served from {@link SubmittedRequestIndex} must not open a transaction,
+     * the repository queries run in their own read-only transaction.
+     */
+    @Timed(value = "request.service", histogram = true)
+    public Slice<RequestResponseDTO> getOperatorRequests(String sortDir, int page) {
+        Optional<SubmittedRequestIndex> index = submittedRequestIndex.filter(SubmittedRequestIndex::isReady);
+
+        Slice<RequestResponseDTO> requests;
+        if (index.isPresent())
+            requests = index.get().getPage(page, defaultPageSize, getSortType(sortDir));
+        // first pages are read most often, they go through the query cache
+        else if (page < cachedPages)
+            requests = requestRepository.findCachedRequestsByStage(Stage.SUBMITTED, getPageable(page, sortDir));
+        else
+            requests = requestRepository.findRequestsByStage(Stage.SUBMITTED, getPageable(page, sortDir));
 
         // set descriptions for operator
         requests.forEach(this::setOperatorDescriptions);
@@ -146,26 +466,49 @@ public class RequestService {
         return requests;
     }
 
+    /**
+     * Method find ETag of the same page as {@link #getOperatorRequests} from IDs and versions of its rows,
+     * a page of {@link SubmittedRequestIndex} is tagged without statements.
+     */
+    @Timed(value = "request.service", histogram = true)
+    public String getOperatorRequestsETag(String sortDir, int page) {
+        Optional<SubmittedRequestIndex> index = submittedRequestIndex.filter(SubmittedRequestIndex::isReady);
+        if (index.isPresent()) {
+            Slice<RequestResponseDTO> requests = index.get().getPage(page, defaultPageSize, getSortType(sortDir));
+            return RequestETags.ofPage(requests.getContent(), RequestResponseDTO::getRequestID,
+                    RequestResponseDTO::getVersion, requests.hasNext());
+        }
 
-    /** по контракту мы ожидаем от пользователя передачи данных в формате:
-     * Только имя, только фамлиию, либо имя и фамилия.
-     * В сочетании записи фамлиия имя вызовет ошибку.
+        Slice<RequestVersionView> versions = requestRepository.findVersionsByStage(Stage.SUBMITTED, getPageable(page, sortDir));
+        return RequestETags.ofPage(versions.getContent(), RequestVersionView::getId, RequestVersionView::getVersion,
+                versions.hasNext());
+    }
+
+    @Timed(value = "request.service", histogram = true)
+    @Transactional(readOnly = true)
+    public RequestPageDTO getOperatorRequestsByCursor(String sortDir, String cursor) {
+        RequestPageDTO requests = getKeysetPage(sortDir, cursor,
+                (requestCursor, ascending, limit) ->
+                        requestRepository.findRequestsByStageSeek(Stage.SUBMITTED, requestCursor, ascending, limit));
+
+        // set descriptions for operator
+        requests.getContent().forEach(this::setOperatorDescriptions);
+
+        return requests;
+    }
+
+    /** по контракту мы ожидаем от пользователя имя, фамилию или их части в любом порядке,
+     * регистр и лишние пробелы не важны, см. {@link PersonNameQuery}.
      * @param fullName
      * @param sortDir
      * @param page
-     * @return List<Request>
+     * @return Slice<RequestResponseDTO>
      */
+    @Timed(value = "request.service", histogram = true)
     @Transactional(readOnly = true)
-    public List<RequestResponseDTO> getPersonRequests(String fullName, String sortDir, int page) {
-        String[] nameParts = fullName.split(" ");
-        String namePart1 = nameParts[0];
-        String namePart2 = nameParts.length > 1 ? nameParts[1] : "";
-
-        List<RequestResponseDTO> requests = requestRepository
-                .findRequestsByPersonName(namePart1, namePart2, getPageable(page, sortDir))
-                .stream()
-                .map(RequestMapper.INSTANCE::toRequestResponseDTO)
-                .collect(Collectors.toList());
+    public Slice<RequestResponseDTO> getPersonRequests(String fullName, String sortDir, int page) {
+        Slice<RequestResponseDTO> requests = requestRepository
+                .findRequestsByPersonName(PersonNameQuery.parse(fullName), getPageable(page, sortDir));
 
         // set descriptions for operator
         requests.forEach(this::setOperatorDescriptions);
@@ -173,39 +516,79 @@ public class RequestService {
         return requests;
     }
 
+    /**
+     * Method find ETag of the same page as {@link #getPersonRequests} from IDs and versions of its rows.
+     */
+    @Timed(value = "request.service", histogram = true)
+    @Transactional(readOnly = true)
+    public String getPersonRequestsETag(String fullName, String sortDir, int page) {
+        Slice<RequestVersionView> versions = requestRepository
+                .findVersionsByPersonName(PersonNameQuery.parse(fullName), getPageable(page, sortDir));
+        return RequestETags.ofPage(versions.getContent(), RequestVersionView::getId, RequestVersionView::getVersion,
+                versions.hasNext());
+    }
+
+    @Timed(value = "request.service", histogram = true)
+    @Transactional(readOnly = true)
+    public RequestPageDTO getPersonRequestsByCursor(String fullName, String sortDir, String cursor) {
+        PersonNameQuery nameQuery = PersonNameQuery.parse(fullName);
+
+        RequestPageDTO requests = getKeysetPage(sortDir, cursor,
+                (requestCursor, ascending, limit) -> requestRepository
+                        .findRequestsByPersonNameSeek(nameQuery, requestCursor, ascending, limit));
+
+        // set descriptions for operator
+        requests.getContent().forEach(this::setOperatorDescriptions);
+
+        return requests;
+    }
+
+    @Timed(value = "request.service", histogram = true)
     @Transactional(rollbackFor = Exception.class)
     public RequestResponseDTO approveRequest(RequestSetStageDTO reqDTO) {
         String checkStage = String.valueOf(Stage.SUBMITTED);
 
         if (reqDTO.getCurrentStage().equals(checkStage)) {
-            Request request = changeRequestStage(reqDTO.getRequestID(), reqDTO.getUserID(), Stage.APPROVED);
+            Request request = changeRequestStage(reqDTO.getRequestID(), reqDTO.getUserID(), reqDTO.getVersion(), Stage.SUBMITTED, Stage.APPROVED);
             return RequestMapper.INSTANCE.toRequestResponseDTO(request);
         }
         else
             throw new ChangeStatusException("Status cannot to be change to " + reqDTO.getCurrentStage() + ".");
     }
 
+    @Timed(value = "request.service", histogram = true)
     @Transactional(rollbackFor = Exception.class)
     public RequestResponseDTO rejectRequest(RequestSetStageDTO reqDTO) {
         String checkStage = String.valueOf(Stage.SUBMITTED);
 
         if (reqDTO.getCurrentStage().equals(checkStage)) {
-            Request request = changeRequestStage(reqDTO.getRequestID(), reqDTO.getUserID(), Stage.REJECTED);
+            Request request = changeRequestStage(reqDTO.getRequestID(), reqDTO.getUserID(), reqDTO.getVersion(), Stage.SUBMITTED, Stage.REJECTED);
             return RequestMapper.INSTANCE.toRequestResponseDTO(request);
         }
         else
             throw new ChangeStatusException("Status cannot to be change to " + reqDTO.getCurrentStage() + ".");
     }
 
+    @Timed(value = "request.service", histogram = true)
+    @Transactional(rollbackFor = Exception.class)
+    public List<RequestBatchResultDTO> approveRequests(RequestBatchStageDTO reqDTO) {
+        return changeRequestStages(reqDTO.getRequestIDs(), Stage.SUBMITTED, Stage.APPROVED);
+    }
+
+    @Timed(value = "request.service", histogram = true)
+    @Transactional(rollbackFor = Exception.class)
+    public List<RequestBatchResultDTO> rejectRequests(RequestBatchStageDTO reqDTO) {
+        return changeRequestStages(reqDTO.getRequestIDs(), Stage.SUBMITTED, Stage.REJECTED);
+    }
+
     private void setOperatorDescriptions(RequestResponseDTO request) {
         request.setDescription(
-                addDashesToString(request.getDescription())
+                descriptionFormatter.addDashes(request.getDescription())
         );
     }
 
-    private String addDashesToString(String input) {
-        return input.chars().mapToObj(c -> (char) c + "-")
-                .collect(Collectors.joining())
-                .replaceAll("-$", "");
+    @FunctionalInterface
+    private interface KeysetQuery {
+        List<Request> find(RequestCursor cursor, boolean ascending, int limit);
     }
 }
@@ -0,0 +1,37 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Counters of requests moved to each {@link Stage}, created drafts are counted as moved to DRAFT.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Component
+public class RequestStageMetrics {
+    private final Map<Stage, Counter> transitions = new EnumMap<>(Stage.class);
+
+    @Autowired
+    public RequestStageMetrics(MeterRegistry meterRegistry) {
+        for (Stage stage : Stage.values()) {
+            transitions.put(stage, Counter.builder("request.stage.transitions")
+                    .description("Requests moved to the stage")
+                    .tag("stage", stage.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    public void transitioned(Stage stage, long count) {
+        if (count > 0)
+            transitions.get(stage).increment(count);
+    }
+}
@@ -0,0 +1,16 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+
+/**
+ * Projection of request identifier and current stage used to validate transitions without loading entities.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public interface RequestStageView {
+    Long getId();
+
+    Stage getStage();
+}
@@ -0,0 +1,295 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.petrsushilin.testapp.requestservice.global.server.VirtualThreads;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestResponseDTO;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fan-out of committed transitions to SUBMITTED, APPROVED and REJECTED to operators subscribed by server-sent events.
+ * Changed requests are read and serialized once per commit however many subscribers there are, by a reader thread
+ * rather than the committing one, which still holds its connection. Then the event is put into the bounded buffer
+ * of every subscriber. Each subscriber drains its buffer on its own sender thread, virtual where the runtime has them,
+ * so a blocked write holds only the thread of its subscriber.
+ * A subscriber whose buffer of {@code app.requests.stream.bufferSize} events is full, or whose write has not finished
+ * within {@code app.requests.stream.sendTimeout}, is dropped, its client reconnects and reloads the listing.
+ * Completing the emitter does not unblock a write in progress, the abandoned sender ends when the container
+ * gives up the connection.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Component
+public class RequestStreamBroadcaster implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(RequestStreamBroadcaster.class);
+
+    private final RequestRepository requestRepository;
+    private final DescriptionFormatter descriptionFormatter;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter jsonWriter;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService reader;
+    private final ExecutorService senders;
+    private final Counter dropped;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final long sendTimeoutNanos;
+
+    @Autowired
+    public RequestStreamBroadcaster(RequestRepository requestRepository,
+                                    DescriptionFormatter descriptionFormatter,
+                                    PlatformTransactionManager transactionManager,
+                                    ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.requests.stream.bufferSize}") int bufferSize,
+                                    @Value("${app.requests.stream.timeout}") Duration timeout,
+                                    @Value("${app.requests.stream.sendTimeout}") Duration sendTimeout) {
+        this.requestRepository = requestRepository;
+        this.descriptionFormatter = descriptionFormatter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.jsonWriter = objectMapper.writerFor(RequestResponseDTO.class);
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+
+        this.reader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "request-stream-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.senders = newSenders();
+        this.dropped = Counter.builder("request.stream.dropped")
+                .description("Subscribers dropped because their buffer was full or a write did not finish in time")
+                .register(meterRegistry);
+        Gauge.builder("request.stream.subscribers", subscribers, Set::size)
+                .description("Operators subscribed to the request stream")
+                .register(meterRegistry);
+    }
+
+    /*------------------------------------------- HIDE ------------------------------------------*/
+
+    /**
+     * At most one task per subscriber runs at a time, so the number of threads follows the number of busy subscribers.
+     */
+    private static ExecutorService newSenders() {
+        if (VirtualThreads.isSupported())
+            return VirtualThreads.newThreadPerTaskExecutor("request-stream-");
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "request-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private List<StreamEvent> toEvents(List<Long> requestIDs, Stage stage) {
+        List<RequestResponseDTO> requests = transactionTemplate
+                .execute(status -> requestRepository.findRequestsByIDs(requestIDs));
+
+        List<StreamEvent> events = new ArrayList<>(requests.size());
+        for (RequestResponseDTO request : requests) {
+            // a later transition may be committed already, it has its own event
+            if (!stage.name().equals(request.getStage()))
+                continue;
+            request.setDescription(descriptionFormatter.addDashes(request.getDescription()));
+            try {
+                events.add(StreamEvent.of(request.getRequestID() + ":" + stage, stage.name(),
+                        jsonWriter.writeValueAsString(request)));
+            } catch (JsonProcessingException e) {
+                log.warn("Request {} was not serialized for the stream", request.getRequestID(), e);
+            }
+        }
+        return events;
+    }
+
+    private void broadcast(List<StreamEvent> events) {
+        for (Subscriber subscriber : subscribers)
+            subscriber.offer(events);
+    }
+
+    /*------------------------------------------- PUBLIC ------------------------------------------*/
+
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onRequestsChanged(RequestsChangedEvent event) {
+        Stage stage = event.getStage();
+        if (stage == null || stage == Stage.DRAFT || subscribers.isEmpty())
+            return;
+
+        List<Long> requestIDs = event.getRequestIDs();
+        try {
+            reader.execute(() -> {
+                try {
+                    List<StreamEvent> events = toEvents(requestIDs, stage);
+                    if (!events.isEmpty())
+                        broadcast(events);
+                } catch (RuntimeException e) {
+                    log.warn("{} transitions to {} were not streamed", requestIDs.size(), stage, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Request stream is stopped, {} transitions to {} skipped", requestIDs.size(), stage);
+        }
+    }
+
+    /**
+     * Comment events keep idle connections open through proxies and detect gone clients.
+     */
+    @Scheduled(fixedDelayString = "${app.requests.stream.heartbeat}", initialDelayString = "${app.requests.stream.heartbeat}")
+    public void heartbeat() {
+        if (!subscribers.isEmpty())
+            broadcast(List.of(StreamEvent.comment("heartbeat")));
+    }
+
+    @Override
+    public void destroy() {
+        reader.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    /**
+     * Event serialized once and sent to every subscriber. {@link SseEmitter.SseEventBuilder} appends to itself
+     * on every build and {@link SseEmitter#send(Object, MediaType)} wraps its argument into a data field,
+     * so each send uses a fresh builder over the prepared values.
+     */
+    private static final class StreamEvent {
+        private final String id;
+        private final String name;
+        private final String data;
+        private final String comment;
+
+        private StreamEvent(String id, String name, String data, String comment) {
+            this.id = id;
+            this.name = name;
+            this.data = data;
+            this.comment = comment;
+        }
+
+        static StreamEvent of(String id, String name, String json) {
+            return new StreamEvent(id, name, json, null);
+        }
+
+        static StreamEvent comment(String comment) {
+            return new StreamEvent(null, null, null, comment);
+        }
+
+        SseEmitter.SseEventBuilder toBuilder() {
+            if (comment != null)
+                return SseEmitter.event().comment(comment);
+            return SseEmitter.event().id(id).name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    /**
+     * Buffer of one subscriber, drained by at most one sender thread at a time.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<StreamEvent> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile long sendStartedAt;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(List<StreamEvent> events) {
+            long startedAt = sendStartedAt;
+            if (startedAt != 0 && System.nanoTime() - startedAt > sendTimeoutNanos) {
+                drop();
+                return;
+            }
+            for (StreamEvent event : events) {
+                if (!buffer.offer(event)) {
+                    drop();
+                    return;
+                }
+            }
+            schedule();
+        }
+
+        private void drop() {
+            if (subscribers.remove(this)) {
+                dropped.increment();
+                buffer.clear();
+                // send and complete lock the emitter, a write in progress must not block the broadcasting thread
+                senders.execute(emitter::complete);
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true))
+                senders.execute(this::drain);
+        }
+
+        private void drain() {
+            try {
+                StreamEvent event;
+                while ((event = buffer.poll()) != null) {
+                    sendStartedAt = System.nanoTime();
+                    emitter.send(event.toBuilder());
+                    sendStartedAt = 0;
+                }
+            } catch (IOException | IllegalStateException e) {
+                // the client is gone or the emitter is already completed
+                subscribers.remove(this);
+                buffer.clear();
+                return;
+            } finally {
+                sendStartedAt = 0;
+                scheduled.set(false);
+            }
+            // an event offered after the last poll and before the flag was reset
+            if (!buffer.isEmpty())
+                schedule();
+        }
+    }
+}
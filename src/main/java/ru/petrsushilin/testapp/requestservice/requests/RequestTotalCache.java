@@ -0,0 +1,44 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestTotalDTO;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Approximate totals of requests by stage.
+ * Listings return slices without a count query, so the total is counted separately
+ * and reused until it is older than {@code app.pagination.totalCacheTtl}.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Component
+public class RequestTotalCache {
+    private final RequestRepository requestRepository;
+    private final Map<Stage, RequestTotalDTO> totals = new ConcurrentHashMap<>();
+
+    @Value("${app.pagination.totalCacheTtl}")
+    private Duration totalCacheTtl;
+
+    @Autowired
+    public RequestTotalCache(RequestRepository requestRepository) {
+        this.requestRepository = requestRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public RequestTotalDTO getTotal(Stage stage) {
+        Instant now = Instant.now();
+        return totals.compute(stage, (key, cached) ->
+                cached != null && cached.getCalculatedAt().plus(totalCacheTtl).isAfter(now) ?
+                        cached : new RequestTotalDTO(key.name(), requestRepository.countByStage(key), now));
+    }
+}
@@ -0,0 +1,14 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+/**
+ * Projection of request identifier and version used to answer conditional requests without loading entities.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public interface RequestVersionView {
+    Long getId();
+
+    Long getVersion();
+}
@@ -0,0 +1,280 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.petrsushilin.testapp.requestservice.global.exceptions.IdentifierMismatchException;
+import ru.petrsushilin.testapp.requestservice.global.exceptions.RequestQueueFullException;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestCreationDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestResponseDTO;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.users.User;
+import ru.petrsushilin.testapp.requestservice.users.UserRepository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind creation of drafts: callers put requests into a bounded queue and one writer thread
+ * saves them in batches, so concurrent creations share one transaction and one commit.
+ * A batch is written when it has {@code maxBatchSize} requests or {@code maxLatency} after its first request.
+ * IDs come from the pooled sequence and JDBC batching of Hibernate, like in {@link RequestService#createRequests}.
+ * Callers are answered after the batch is committed, so an answered request is never lost.
+ * Requests are validated by {@link RequestCreationRules} before they are queued, and a failed batch is saved again request by request,
+ * so one bad request fails only its own caller.
+ * A full queue rejects new requests at once with {@link RequestQueueFullException}, and so does a batch
+ * not saved within {@code timeout}. The writer is also given {@code timeout} to finish when the application stops.
+ * Enabled by {@code app.requests.writeBehind.enabled}.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Component
+@ConditionalOnProperty(name = "app.requests.writeBehind.enabled", havingValue = "true")
+public class RequestWriteBehind implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(RequestWriteBehind.class);
+
+    private final UserRepository userRepository;
+    private final RequestStageMetrics requestStageMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Pending> queue;
+    private final DistributionSummary batchSizes;
+    private final int maxBatchSize;
+    private final long maxLatencyNanos;
+    private final Duration timeout;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    @Autowired
+    public RequestWriteBehind(UserRepository userRepository,
+                              RequestStageMetrics requestStageMetrics,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.requests.writeBehind.queueCapacity}") int queueCapacity,
+                              @Value("${app.requests.writeBehind.maxBatchSize}") int maxBatchSize,
+                              @Value("${app.requests.writeBehind.maxLatency}") Duration maxLatency,
+                              @Value("${app.requests.writeBehind.timeout}") Duration timeout) {
+        this.userRepository = userRepository;
+        this.requestStageMetrics = requestStageMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxLatencyNanos = maxLatency.toNanos();
+        this.timeout = timeout;
+        this.batchSizes = DistributionSummary.builder("request.writebehind.batch.size")
+                .description("Requests saved by one write-behind transaction")
+                .register(meterRegistry);
+        Gauge.builder("request.writebehind.queue.size", queue, BlockingQueue::size)
+                .description("Requests waiting to be saved")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Waits until the request is saved with its batch, without a transaction of the caller.
+     * @throws IllegalArgumentException if the author or the description is missing or the description is too long.
+     * @throws RequestQueueFullException if the queue is full or the request was not saved within the timeout.
+     * @throws IdentifierMismatchException if the author is not found.
+     */
+    public RequestResponseDTO create(RequestCreationDTO requestCreationDTO) {
+        RequestCreationRules.validate(requestCreationDTO);
+        Pending pending = new Pending(requestCreationDTO);
+        if (!running || !queue.offer(pending))
+            throw new RequestQueueFullException("Too many requests are being created, try again later.");
+
+        try {
+            return pending.result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            // a request still queued is skipped by the writer, one already being written may be saved anyway
+            pending.result.completeExceptionally(ex);
+            throw new RequestQueueFullException("Request was not saved in time, try again later.");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            pending.result.completeExceptionally(ex);
+            throw new RequestQueueFullException("Request creation was interrupted.");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException)
+                throw (RuntimeException) ex.getCause();
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    /*------------------------------------------- HIDE ------------------------------------------*/
+
+    private void writeLoop() {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                try {
+                    Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null)
+                        continue;
+                    batch.add(first);
+
+                    long deadline = System.nanoTime() + maxLatencyNanos;
+                    while (batch.size() < maxBatchSize) {
+                        long remaining = deadline - System.nanoTime();
+                        Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                        if (next == null)
+                            break;
+                        batch.add(next);
+                    }
+                    writeOrRetryOneByOne(batch);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    // requests of a batch cut short by an interrupt or an Error are not left waiting
+                    fail(batch, new IllegalStateException("Write-behind writer stopped before the request was saved."));
+                    batch.clear();
+                }
+            }
+        } finally {
+            running = false;
+            // requests offered while the writer was stopping
+            List<Pending> rejected = new ArrayList<>();
+            queue.drainTo(rejected);
+            fail(rejected, new RequestQueueFullException("Requests are not accepted while the application is stopping."));
+        }
+    }
+
+    private void writeOrRetryOneByOne(List<Pending> batch) {
+        try {
+            write(batch);
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                log.error("Write-behind request failed", ex);
+                fail(batch, ex);
+                return;
+            }
+            log.warn("Write-behind batch of {} requests failed, saving them one by one", batch.size(), ex);
+            for (Pending pending : batch) {
+                try {
+                    write(List.of(pending));
+                } catch (RuntimeException single) {
+                    log.error("Write-behind request failed", single);
+                    pending.result.completeExceptionally(single);
+                }
+            }
+        }
+    }
+
+    private static void fail(List<Pending> pendings, Throwable cause) {
+        pendings.forEach(pending -> pending.result.completeExceptionally(cause));
+    }
+
+    private void write(List<Pending> batch) {
+        Set<Long> userIDs = new HashSet<>();
+        batch.forEach(pending -> userIDs.add(pending.request.getUserID()));
+
+        List<Request> saved = transactionTemplate.execute(status -> {
+            Map<Long, User> authors = userRepository.findAllById(userIDs).stream()
+                    .collect(Collectors.toMap(User::getId, Function.identity()));
+            LocalDate createdAt = LocalDate.now();
+
+            List<Request> requests = new ArrayList<>(batch.size());
+            for (Pending pending : batch) {
+                User author = authors.get(pending.request.getUserID());
+                // the caller stopped waiting, and an unknown author is answered after the commit
+                if (pending.result.isDone() || author == null) {
+                    requests.add(null);
+                    continue;
+                }
+                Request request = RequestMapper.INSTANCE.toEntity(pending.request);
+                request.setUser(author);
+                request.setCreatedAt(createdAt);
+                request.setStage(Stage.DRAFT);
+                entityManager.persist(request);
+                requests.add(request);
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return requests;
+        });
+
+        long created = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            Pending pending = batch.get(i);
+            Request request = saved.get(i);
+            if (request == null) {
+                pending.result.completeExceptionally(new IdentifierMismatchException(
+                        "User with ID " + pending.request.getUserID() + " not found"));
+                continue;
+            }
+            pending.result.complete(RequestMapper.INSTANCE.toRequestResponseDTO(request));
+            created++;
+        }
+        batchSizes.record(batch.size());
+        requestStageMetrics.transitioned(Stage.DRAFT, created);
+    }
+
+    /*------------------------------------------- LIFECYCLE ------------------------------------------*/
+
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::writeLoop, "request-write-behind");
+        writer.start();
+    }
+
+    /**
+     * Stops taking new requests and waits up to {@code timeout} until the queued ones are saved,
+     * then interrupts the writer, which fails the requests left.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            writer.join(timeout.toMillis());
+            if (writer.isAlive()) {
+                log.warn("Write-behind writer did not finish within {}, interrupting it", timeout);
+                writer.interrupt();
+                writer.join(timeout.toMillis());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private static final class Pending {
+        private final RequestCreationDTO request;
+        private final CompletableFuture<RequestResponseDTO> result = new CompletableFuture<>();
+
+        private Pending(RequestCreationDTO request) {
+            this.request = request;
+        }
+    }
+}
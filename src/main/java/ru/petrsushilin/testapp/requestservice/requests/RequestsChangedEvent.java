@@ -0,0 +1,40 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published by {@link RequestService} when stage or description of requests was changed.
+ * Listeners should react after commit and read the committed state themselves.
+ * Stage transitions carry the new stage, other changes have no stage.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public class RequestsChangedEvent {
+    private final List<Long> requestIDs;
+    private final Stage stage;
+
+    public RequestsChangedEvent(Collection<Long> requestIDs) {
+        this(requestIDs, null);
+    }
+
+    public RequestsChangedEvent(Collection<Long> requestIDs, Stage stage) {
+        this.requestIDs = List.copyOf(requestIDs);
+        this.stage = stage;
+    }
+
+    public List<Long> getRequestIDs() {
+        return requestIDs;
+    }
+
+    /**
+     * @return stage the requests were moved to or null if the stage was not changed.
+     */
+    public Stage getStage() {
+        return stage;
+    }
+}
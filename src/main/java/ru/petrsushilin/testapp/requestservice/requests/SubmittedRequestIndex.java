@@ -0,0 +1,281 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestResponseDTO;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * In-memory copy of all submitted requests ordered by (createdAt, id), used for operator listing pages.
+ * It is built when the application is ready, refreshed from the database after every committed
+ * {@link RequestsChangedEvent} and periodically compared with the database, any difference causes a rebuild.
+ * Refreshes are read by a single background thread: the committing thread still holds its connection
+ * after commit, so reading there would take a second connection per transition.
+ * Rebuilds and verifications run on the same thread, so a snapshot never replaces the result of a newer refresh.
+ * Enabled by {@code app.requests.submittedIndex.enabled}.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Component
+@ConditionalOnProperty(name = "app.requests.submittedIndex.enabled", havingValue = "true")
+public class SubmittedRequestIndex implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(SubmittedRequestIndex.class);
+
+    private final RequestRepository requestRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter mismatches;
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "submitted-index-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Entries entries = new Entries();
+    private volatile boolean ready;
+
+    @Autowired
+    public SubmittedRequestIndex(RequestRepository requestRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.requestRepository = requestRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.mismatches = Counter.builder("request.submitted.index.mismatches")
+                .description("Consistency checks which found the index different from the database")
+                .register(meterRegistry);
+        Gauge.builder("request.submitted.index.size", this, index -> index.entries.byID.size())
+                .description("Submitted requests held in memory")
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Returns copies of the indexed requests, so callers may change them.
+     */
+    public Slice<RequestResponseDTO> getPage(int page, int size, Sort sort) {
+        Sort.Order order = sort.getOrderFor("createdAt");
+        NavigableMap<Key, RequestResponseDTO> sorted = order == null || order.isAscending()
+                ? entries.sorted
+                : entries.sorted.descendingMap();
+
+        Iterator<RequestResponseDTO> iterator = sorted.values().iterator();
+        for (long skipped = 0; skipped < (long) page * size && iterator.hasNext(); skipped++)
+            iterator.next();
+
+        List<RequestResponseDTO> content = new ArrayList<>(size);
+        while (content.size() < size && iterator.hasNext())
+            content.add(copy(iterator.next()));
+
+        return new SliceImpl<>(content, PageRequest.of(page, size, sort), iterator.hasNext());
+    }
+
+    /**
+     * Replaces the index with a snapshot of the database and waits for it.
+     * Changes committed meanwhile are refreshed after the snapshot, so they are read again.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        runOnRefresher(this::rebuildEntries);
+    }
+
+    @TransactionalEventListener
+    public void onRequestsChanged(RequestsChangedEvent event) {
+        List<Long> requestIDs = event.getRequestIDs();
+        try {
+            refresher.execute(() -> {
+                try {
+                    refresh(requestIDs);
+                } catch (RuntimeException e) {
+                    // the next verification finds the difference and rebuilds
+                    log.warn("Submitted request index was not refreshed for {} requests", requestIDs.size(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Submitted request index is stopped, refresh of {} requests skipped", requestIDs.size());
+        }
+    }
+
+    /**
+     * Compares identifiers and versions of the indexed requests with the database and rebuilds on any difference,
+     * so changed descriptions are found as well as missed transitions.
+     */
+    @Scheduled(fixedDelayString = "${app.requests.submittedIndex.verifyInterval}",
+            initialDelayString = "${app.requests.submittedIndex.verifyInterval}")
+    public void verify() {
+        if (!ready)
+            return;
+
+        runOnRefresher(() -> {
+            Map<Long, Long> submitted = new HashMap<>();
+            transactionTemplate.execute(status -> requestRepository.findAllVersionsByStage(Stage.SUBMITTED))
+                    .forEach(view -> submitted.put(view.getId(), view.getVersion()));
+            Map<Long, Long> indexed = entries.versions();
+            if (!submitted.equals(indexed)) {
+                mismatches.increment();
+                log.warn("Submitted request index differs from the database: {} indexed, {} submitted, rebuilding",
+                        indexed.size(), submitted.size());
+                rebuildEntries();
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        refresher.shutdownNow();
+    }
+
+    /*------------------------------------------- HIDE ------------------------------------------*/
+
+    private void rebuildEntries() {
+        Entries fresh = new Entries();
+        transactionTemplate.execute(status -> requestRepository.findAllRequestsByStage(Stage.SUBMITTED))
+                .forEach(fresh::put);
+        entries = fresh;
+        ready = true;
+        log.info("Submitted request index holds {} requests", fresh.byID.size());
+    }
+
+    private void runOnRefresher(Runnable task) {
+        try {
+            refresher.submit(task).get();
+        } catch (RejectedExecutionException e) {
+            log.debug("Submitted request index is stopped");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void refresh(Collection<Long> requestIDs) {
+        if (requestIDs.isEmpty())
+            return;
+
+        List<RequestResponseDTO> requests = transactionTemplate
+                .execute(status -> requestRepository.findRequestsByIDs(requestIDs));
+        Set<Long> missing = new HashSet<>(requestIDs);
+        Entries current = entries;
+        for (RequestResponseDTO request : requests) {
+            missing.remove(request.getRequestID());
+            if (Stage.SUBMITTED.name().equals(request.getStage()))
+                current.put(request);
+            else
+                current.remove(request.getRequestID());
+        }
+        missing.forEach(current::remove);
+    }
+
+    private static RequestResponseDTO copy(RequestResponseDTO request) {
+        RequestResponseDTO copy = new RequestResponseDTO();
+        copy.setRequestID(request.getRequestID());
+        copy.setCreatedAt(request.getCreatedAt());
+        copy.setUserID(request.getUserID());
+        copy.setUserName(request.getUserName());
+        copy.setUserSurname(request.getUserSurname());
+        copy.setStage(request.getStage());
+        copy.setDescription(request.getDescription());
+        copy.setVersion(request.getVersion());
+        return copy;
+    }
+
+    /**
+     * Readers walk {@code sorted} without locks, writers are serialized so both maps stay in step.
+     */
+    private static final class Entries {
+        private final ConcurrentSkipListMap<Key, RequestResponseDTO> sorted = new ConcurrentSkipListMap<>();
+        private final Map<Long, Key> byID = new ConcurrentHashMap<>();
+
+        synchronized void put(RequestResponseDTO request) {
+            Key key = new Key(request.getCreatedAt(), request.getRequestID());
+            Key previous = byID.put(request.getRequestID(), key);
+            if (previous != null && !previous.equals(key))
+                sorted.remove(previous);
+            sorted.put(key, request);
+        }
+
+        synchronized void remove(Long requestID) {
+            Key key = byID.remove(requestID);
+            if (key != null)
+                sorted.remove(key);
+        }
+
+        synchronized Map<Long, Long> versions() {
+            Map<Long, Long> versions = new HashMap<>();
+            sorted.values().forEach(request -> versions.put(request.getRequestID(), request.getVersion()));
+            return versions;
+        }
+    }
+
+    private static final class Key implements Comparable<Key> {
+        private final LocalDate createdAt;
+        private final long id;
+
+        Key(LocalDate createdAt, long id) {
+            this.createdAt = createdAt;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int byDate = createdAt.compareTo(other.createdAt);
+            return byDate != 0 ? byDate : Long.compare(id, other.id);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key key = (Key) o;
+            return id == key.id && createdAt.equals(key.createdAt);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(createdAt, id);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package ru.petrsushilin.testapp.requestservice.requests.dto;
+
+/**
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public class RequestBatchResultDTO {
+    private Long requestID;
+    private String result;
+    private String stage;
+
+    public RequestBatchResultDTO(Long requestID, String result, String stage) {
+        this.requestID = requestID;
+        this.result = result;
+        this.stage = stage;
+    }
+
+    public Long getRequestID() {
+        return requestID;
+    }
+
+    public void setRequestID(Long requestID) {
+        this.requestID = requestID;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public void setResult(String result) {
+        this.result = result;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+
+    public void setStage(String stage) {
+        this.stage = stage;
+    }
+}
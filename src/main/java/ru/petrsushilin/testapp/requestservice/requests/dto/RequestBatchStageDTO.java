@@ -0,0 +1,20 @@
+package ru.petrsushilin.testapp.requestservice.requests.dto;
+
+import java.util.List;
+
+/**
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public class RequestBatchStageDTO {
+    private List<Long> requestIDs;
+
+    public List<Long> getRequestIDs() {
+        return requestIDs;
+    }
+
+    public void setRequestIDs(List<Long> requestIDs) {
+        this.requestIDs = requestIDs;
+    }
+}
@@ -0,0 +1,32 @@
+package ru.petrsushilin.testapp.requestservice.requests.dto;
+
+/**
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public class RequestImportErrorDTO {
+    private long line;
+    private String message;
+
+    public RequestImportErrorDTO(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,77 @@
+package ru.petrsushilin.testapp.requestservice.requests.dto;
+
+import java.util.List;
+
+/**
+ * Result of requests import: counts of lines, only the first errors are listed.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public class RequestImportReportDTO {
+    private long lines;
+    private long imported;
+    private long failed;
+    private long elapsedMillis;
+    private long requestsPerSecond;
+    private List<RequestImportErrorDTO> errors;
+
+    public RequestImportReportDTO(long lines, long imported, long failed, long elapsedMillis,
+                                  List<RequestImportErrorDTO> errors) {
+        this.lines = lines;
+        this.imported = imported;
+        this.failed = failed;
+        this.elapsedMillis = elapsedMillis;
+        this.requestsPerSecond = elapsedMillis == 0 ? imported : imported * 1000 / elapsedMillis;
+        this.errors = errors;
+    }
+
+    public long getLines() {
+        return lines;
+    }
+
+    public void setLines(long lines) {
+        this.lines = lines;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    public void setRequestsPerSecond(long requestsPerSecond) {
+        this.requestsPerSecond = requestsPerSecond;
+    }
+
+    public List<RequestImportErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RequestImportErrorDTO> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,47 @@
+package ru.petrsushilin.testapp.requestservice.requests.dto;
+
+import java.util.List;
+
+/**
+ * Page of requests returned by keyset (cursor) listings.
+ * Cursors are opaque, {@code null} means there is no page in that direction.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public class RequestPageDTO {
+    private List<RequestResponseDTO> content;
+    private String nextCursor;
+    private String prevCursor;
+
+    public RequestPageDTO(List<RequestResponseDTO> content, String nextCursor, String prevCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.prevCursor = prevCursor;
+    }
+
+    public List<RequestResponseDTO> getContent() {
+        return content;
+    }
+
+    public void setContent(List<RequestResponseDTO> content) {
+        this.content = content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public String getPrevCursor() {
+        return prevCursor;
+    }
+
+    public void setPrevCursor(String prevCursor) {
+        this.prevCursor = prevCursor;
+    }
+}
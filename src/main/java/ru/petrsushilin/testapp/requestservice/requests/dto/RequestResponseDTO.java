@@ -1,5 +1,8 @@
 package ru.petrsushilin.testapp.requestservice.requests.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+
 import java.time.LocalDate;
 
 /**
@@ -15,6 +18,29 @@ public class RequestResponseDTO {
     private String userSurname;
     private String stage;
     private String description;
+    /**
+     * Version of the request for ETags, not a part of the response body.
+     */
+    @JsonIgnore
+    private Long version;
+
+    public RequestResponseDTO() {
+    }
+
+    /**
+     * Used by JPQL constructor expressions of listing queries.
+     */
+    public RequestResponseDTO(Long requestID, LocalDate createdAt, Long userID, String userName, String userSurname,
+                              Stage stage, String description, Long version) {
+        this.requestID = requestID;
+        this.createdAt = createdAt;
+        this.userID = userID;
+        this.userName = userName;
+        this.userSurname = userSurname;
+        this.stage = String.valueOf(stage);
+        this.description = description;
+        this.version = version;
+    }
 
     public Long getRequestID() {
         return requestID;
@@ -71,4 +97,12 @@ public class RequestResponseDTO {
     public void setDescription(String description) {
         this.description = description;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
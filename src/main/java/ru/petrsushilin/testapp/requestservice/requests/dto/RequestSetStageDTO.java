@@ -9,6 +9,7 @@ public class RequestSetStageDTO {
     private Long requestID;
     private Long userID;
     private String currentStage;
+    private Long version;
 
     public Long getRequestID() {
         return requestID;
@@ -33,4 +34,12 @@ public class RequestSetStageDTO {
     public void setCurrentStage(String currentStage) {
         this.currentStage = currentStage;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,64 @@
+package ru.petrsushilin.testapp.requestservice.requests.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public class RequestStageEventDTO {
+    private Long eventID;
+    private Long requestID;
+    private String fromStage;
+    private String toStage;
+    private LocalDateTime changedAt;
+
+    public RequestStageEventDTO(Long eventID, Long requestID, String fromStage, String toStage, LocalDateTime changedAt) {
+        this.eventID = eventID;
+        this.requestID = requestID;
+        this.fromStage = fromStage;
+        this.toStage = toStage;
+        this.changedAt = changedAt;
+    }
+
+    public Long getEventID() {
+        return eventID;
+    }
+
+    public void setEventID(Long eventID) {
+        this.eventID = eventID;
+    }
+
+    public Long getRequestID() {
+        return requestID;
+    }
+
+    public void setRequestID(Long requestID) {
+        this.requestID = requestID;
+    }
+
+    public String getFromStage() {
+        return fromStage;
+    }
+
+    public void setFromStage(String fromStage) {
+        this.fromStage = fromStage;
+    }
+
+    public String getToStage() {
+        return toStage;
+    }
+
+    public void setToStage(String toStage) {
+        this.toStage = toStage;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
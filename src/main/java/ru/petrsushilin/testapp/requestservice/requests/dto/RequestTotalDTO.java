@@ -0,0 +1,44 @@
+package ru.petrsushilin.testapp.requestservice.requests.dto;
+
+import java.time.Instant;
+
+/**
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public class RequestTotalDTO {
+    private String stage;
+    private long total;
+    private Instant calculatedAt;
+
+    public RequestTotalDTO(String stage, long total, Instant calculatedAt) {
+        this.stage = stage;
+        this.total = total;
+        this.calculatedAt = calculatedAt;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+
+    public void setStage(String stage) {
+        this.stage = stage;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Instant getCalculatedAt() {
+        return calculatedAt;
+    }
+
+    public void setCalculatedAt(Instant calculatedAt) {
+        this.calculatedAt = calculatedAt;
+    }
+}
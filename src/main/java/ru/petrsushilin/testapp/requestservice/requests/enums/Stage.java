@@ -9,5 +9,20 @@ public enum Stage {
     DRAFT,
     SUBMITTED,
     APPROVED,
-    REJECTED
+    REJECTED;
+
+    /**
+     * Transition rules of request: user sends a draft to operator, operator approves or rejects it,
+     * approved and rejected requests are final.
+     */
+    public boolean canMoveTo(Stage newStage) {
+        switch (this) {
+            case DRAFT:
+                return newStage == SUBMITTED;
+            case SUBMITTED:
+                return newStage == APPROVED || newStage == REJECTED;
+            default:
+                return false;
+        }
+    }
 }
@@ -0,0 +1,14 @@
+package ru.petrsushilin.testapp.requestservice.requests.enums;
+
+/**
+ * Outcome of a stage transition for a single request inside a batch.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public enum TransitionResult {
+    CHANGED,
+    NOT_FOUND,
+    STAGE_CONFLICT
+}
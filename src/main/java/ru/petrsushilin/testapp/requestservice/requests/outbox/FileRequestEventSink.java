@@ -0,0 +1,54 @@
+package ru.petrsushilin.testapp.requestservice.requests.outbox;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestStageEventDTO;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Appends events to {@code app.outbox.file} as JSON lines and syncs the file before the batch is acknowledged.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "file")
+public class FileRequestEventSink implements RequestEventSink {
+    private final ObjectWriter jsonWriter;
+
+    @Value("${app.outbox.file}")
+    private String file;
+
+    @Autowired
+    public FileRequestEventSink(ObjectMapper objectMapper) {
+        this.jsonWriter = objectMapper
+                .writerFor(RequestStageEventDTO.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public synchronized void publish(List<RequestStageEventDTO> events) throws IOException {
+        try (FileOutputStream output = new FileOutputStream(file, true)) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            for (RequestStageEventDTO event : events) {
+                jsonWriter.writeValue(writer, event);
+                writer.write('\n');
+            }
+            writer.flush();
+            output.getChannel().force(false);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package ru.petrsushilin.testapp.requestservice.requests.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestStageEventDTO;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Keeps the last {@code app.outbox.memory.capacity} events in memory. Events are lost on restart,
+ * so the sink exists in the test profile only.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Component
+@Profile("test")
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "memory")
+public class InMemoryRequestEventSink implements RequestEventSink {
+    private final Deque<RequestStageEventDTO> events = new ArrayDeque<>();
+
+    @Value("${app.outbox.memory.capacity}")
+    private int capacity;
+
+    @Override
+    public synchronized void publish(List<RequestStageEventDTO> batch) {
+        for (RequestStageEventDTO event : batch) {
+            if (events.size() == capacity)
+                events.removeFirst();
+            events.addLast(event);
+        }
+    }
+
+    public synchronized List<RequestStageEventDTO> getEvents() {
+        return new ArrayList<>(events);
+    }
+}
@@ -0,0 +1,22 @@
+package ru.petrsushilin.testapp.requestservice.requests.outbox;
+
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestStageEventDTO;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destination of stage transitions delivered by {@link RequestOutboxRelay}, chosen by {@code app.outbox.sink}.
+ * Delivery is at least once: a batch is published again if it fails or the relay stops before the batch is removed
+ * from the outbox, so consumers should skip events with already seen eventID.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public interface RequestEventSink {
+    /**
+     * Publishes the batch in eventID order, returns only when the batch is durable at the destination.
+     */
+    void publish(List<RequestStageEventDTO> events) throws IOException;
+}
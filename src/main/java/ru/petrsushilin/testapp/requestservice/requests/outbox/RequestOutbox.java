@@ -0,0 +1,41 @@
+package ru.petrsushilin.testapp.requestservice.requests.outbox;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Records stage transitions in the outbox table within the transaction which changes the stage,
+ * so a transition is published if and only if it is committed. Delivery is done by {@link RequestOutboxRelay}.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Component
+public class RequestOutbox {
+    private final RequestStageEventRepository eventRepository;
+
+    @Autowired
+    public RequestOutbox(RequestStageEventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Records transitions of the given requests with one statement, call it after the stage update.
+     *
+     * @throws org.springframework.transaction.IllegalTransactionStateException if there is no transaction.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int record(Collection<Long> requestIDs, Stage fromStage, Stage toStage) {
+        if (requestIDs.isEmpty())
+            return 0;
+
+        return eventRepository.insertEvents(requestIDs, fromStage.name(), toStage.name(), LocalDateTime.now());
+    }
+}
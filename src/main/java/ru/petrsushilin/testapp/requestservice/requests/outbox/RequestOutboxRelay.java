@@ -0,0 +1,108 @@
+package ru.petrsushilin.testapp.requestservice.requests.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestStageEventDTO;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drains the outbox to the {@link RequestEventSink} every {@code app.outbox.pollInterval}.
+ * Each batch of {@code app.outbox.batchSize} oldest events is locked, published and deleted in one transaction,
+ * so a batch is removed only after the sink accepted it and is published again after a failure.
+ * Full batches are drained one after another without waiting for the next poll.
+ * Enabled by {@code app.outbox.relay.enabled}.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true")
+public class RequestOutboxRelay {
+    private static final Logger log = LoggerFactory.getLogger(RequestOutboxRelay.class);
+
+    private final RequestStageEventRepository eventRepository;
+    private final RequestEventSink eventSink;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter published;
+    private final Counter failures;
+
+    @Value("${app.outbox.batchSize}")
+    private int batchSize;
+
+    @Autowired
+    public RequestOutboxRelay(RequestStageEventRepository eventRepository,
+                              RequestEventSink eventSink,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.eventSink = eventSink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.published = Counter.builder("request.outbox.published")
+                .description("Stage transitions published from the outbox")
+                .register(meterRegistry);
+        this.failures = Counter.builder("request.outbox.failures")
+                .description("Outbox batches which were not published and will be retried")
+                .register(meterRegistry);
+    }
+
+    /*------------------------------------------- HIDE ------------------------------------------*/
+
+    private int relayBatch() {
+        List<RequestStageEvent> events = eventRepository.findOldestForUpdate(PageRequest.of(0, batchSize));
+        if (events.isEmpty())
+            return 0;
+
+        List<RequestStageEventDTO> batch = new ArrayList<>(events.size());
+        List<Long> ids = new ArrayList<>(events.size());
+        for (RequestStageEvent event : events) {
+            batch.add(new RequestStageEventDTO(event.getId(), event.getRequestID(),
+                    event.getFromStage().name(), event.getToStage().name(), event.getChangedAt()));
+            ids.add(event.getId());
+        }
+
+        try {
+            eventSink.publish(batch);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        eventRepository.deleteAllByIdInBatch(ids);
+        return events.size();
+    }
+
+    /*------------------------------------------- PUBLIC ------------------------------------------*/
+
+    /**
+     * @return number of published events
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.pollInterval}", initialDelayString = "${app.outbox.pollInterval}")
+    public synchronized long relay() {
+        long total = 0;
+        try {
+            int relayed;
+            do {
+                relayed = transactionTemplate.execute(status -> relayBatch());
+                published.increment(relayed);
+                total += relayed;
+            } while (relayed == batchSize);
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Outbox batch was not published, it will be retried", e);
+        }
+        return total;
+    }
+}
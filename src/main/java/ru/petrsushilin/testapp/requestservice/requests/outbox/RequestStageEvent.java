@@ -0,0 +1,55 @@
+package ru.petrsushilin.testapp.requestservice.requests.outbox;
+
+import org.hibernate.annotations.Immutable;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Stage transition of a request waiting in the outbox for delivery.
+ * Rows are inserted by {@link RequestOutbox} with one statement per chunk and only read and deleted through the entity.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Entity
+@Immutable
+@Table(name = "request_outbox")
+public class RequestStageEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+    @Column(name = "request_id", nullable = false)
+    private Long requestID;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_stage", nullable = false)
+    private Stage fromStage;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_stage", nullable = false)
+    private Stage toStage;
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getRequestID() {
+        return requestID;
+    }
+
+    public Stage getFromStage() {
+        return fromStage;
+    }
+
+    public Stage getToStage() {
+        return toStage;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+}
@@ -0,0 +1,19 @@
+package ru.petrsushilin.testapp.requestservice.requests.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Set based insert of outbox events.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public interface RequestStageEventInsertRepository {
+    /**
+     * Records requests of the given IDs which are in {@code toStage} now, the stages are names of
+     * {@link ru.petrsushilin.testapp.requestservice.requests.enums.Stage}.
+     */
+    int insertEvents(Collection<Long> requestIDs, String fromStage, String toStage, LocalDateTime changedAt);
+}
@@ -0,0 +1,36 @@
+package ru.petrsushilin.testapp.requestservice.requests.outbox;
+
+import org.hibernate.query.NativeQuery;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Native implementation of {@link RequestStageEventInsertRepository}.
+ * The statement declares the outbox table as its only query space, otherwise Hibernate treats a native update
+ * as touching every table and evicts all second-level cache regions and the query cache on each transition.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public class RequestStageEventInsertRepositoryImpl implements RequestStageEventInsertRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int insertEvents(Collection<Long> requestIDs, String fromStage, String toStage, LocalDateTime changedAt) {
+        return entityManager.createNativeQuery("INSERT INTO request_outbox (request_id, from_stage, to_stage, changed_at) " +
+                        "SELECT r.id, :fromStage, :toStage, :changedAt FROM requests r " +
+                        "WHERE r.id IN (:requestIDs) AND r.stage = :toStage")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(RequestStageEvent.class)
+                .setParameter("requestIDs", requestIDs)
+                .setParameter("fromStage", fromStage)
+                .setParameter("toStage", toStage)
+                .setParameter("changedAt", changedAt)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,28 @@
+package ru.petrsushilin.testapp.requestservice.requests.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.List;
+
+/**
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Repository
+public interface RequestStageEventRepository extends JpaRepository<RequestStageEvent, Long>, RequestStageEventInsertRepository {
+    /**
+     * Oldest events locked for delivery, rows locked by another relay are skipped where the database supports it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM RequestStageEvent e ORDER BY e.id")
+    List<RequestStageEvent> findOldestForUpdate(Pageable pageable);
+}
@@ -0,0 +1,126 @@
+package ru.petrsushilin.testapp.requestservice.users;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Person search over the normalized {@code search_name} column of users.
+ * Both the stored name and the searched text are normalized the same way: NFKC, lower case, "ё" as "е"
+ * and single spaces between words, so any whitespace and any order of name and surname are accepted.
+ * Every token must be contained in the name, a whole word matches better than a word prefix,
+ * and a prefix better than a part in the middle of a word.
+ * On PostgreSQL the containment checks are served by the pg_trgm index on {@code search_name}.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public final class PersonNameQuery {
+    public static final int MAX_TOKENS = 3;
+
+    public static final char LIKE_ESCAPE = '\\';
+
+    private final List<String> tokens;
+
+    private PersonNameQuery(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the text has no letters to search by.
+     */
+    public static PersonNameQuery parse(String fullName) {
+        String normalized = normalize(fullName);
+        if (normalized.isEmpty())
+            throw new IllegalArgumentException("Name to search must not be empty.");
+
+        List<String> tokens = new ArrayList<>(MAX_TOKENS);
+        int start = 0;
+        while (start < normalized.length() && tokens.size() < MAX_TOKENS) {
+            int end = normalized.indexOf(' ', start);
+            if (end < 0)
+                end = normalized.length();
+            tokens.add(normalized.substring(start, end));
+            start = end + 1;
+        }
+        return new PersonNameQuery(Collections.unmodifiableList(tokens));
+    }
+
+    public static String searchName(String name, String surname) {
+        return normalize((name == null ? "" : name) + " " + (surname == null ? "" : surname));
+    }
+
+    static String normalize(String text) {
+        if (text == null)
+            return "";
+
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(folded.length());
+        boolean space = false;
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                space = normalized.length() > 0;
+                continue;
+            }
+            if (space)
+                normalized.append(' ');
+            normalized.append(c == 'ё' ? 'е' : c);
+            space = false;
+        }
+        return normalized.toString();
+    }
+
+    public List<String> getTokens() {
+        return tokens;
+    }
+
+    /**
+     * LIKE patterns with {@link #LIKE_ESCAPE} which contain a token each, for callers building plain SQL.
+     */
+    public List<String> getContainsPatterns() {
+        List<String> patterns = new ArrayList<>(tokens.size());
+        for (String token : tokens)
+            patterns.add("%" + escape(token) + "%");
+        return patterns;
+    }
+
+    public Predicate toPredicate(CriteriaBuilder cb, Expression<String> searchName) {
+        return cb.and(getContainsPatterns().stream()
+                .map(pattern -> cb.like(searchName, pattern, LIKE_ESCAPE))
+                .toArray(Predicate[]::new));
+    }
+
+    /**
+     * Lower is better: 0 for each token matching a whole word, 1 for a word prefix, 2 for any other part.
+     */
+    public Expression<Integer> rank(CriteriaBuilder cb, Expression<String> searchName) {
+        Expression<String> words = cb.concat(cb.concat(" ", searchName), " ");
+        Expression<Integer> rank = null;
+        for (String token : tokens) {
+            Expression<Integer> tokenRank = cb.<Integer>selectCase()
+                    .when(cb.like(words, "% " + escape(token) + " %", LIKE_ESCAPE), 0)
+                    .when(cb.like(words, "% " + escape(token) + "%", LIKE_ESCAPE), 1)
+                    .otherwise(2);
+            rank = rank == null ? tokenRank : cb.sum(rank, tokenRank);
+        }
+        return rank;
+    }
+
+    private static String escape(String token) {
+        StringBuilder escaped = new StringBuilder(token.length() + 4);
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE)
+                escaped.append(LIKE_ESCAPE);
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
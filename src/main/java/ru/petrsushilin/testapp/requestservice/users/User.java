@@ -1,5 +1,9 @@
 package ru.petrsushilin.testapp.requestservice.users;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import ru.petrsushilin.testapp.requestservice.HibernateConfig;
 import ru.petrsushilin.testapp.requestservice.users.enums.Role;
 
 import javax.persistence.*;
@@ -11,29 +15,51 @@ import java.util.Set;
  * @since 05.05.2024
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateConfig.USER_REGION)
 @Table(name = "users", indexes = {
         @Index(name = "name_index", columnList = "name"),
         @Index(name = "surname_index", columnList = "surname")
 })
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Long id;
 
     @Column(name = "login", nullable = false, unique = true)
     private String login;
 
+    /**
+     * Encoded password with the id prefix of the delegating password encoder, see {@link UserPrincipalService}.
+     */
+    @JsonIgnore
+    @Column(name = "password")
+    private String password;
+
     @Column(name = "name")
     private String name;
     @Column(name = "surname")
     private String surname;
+    /**
+     * Normalized "name surname" for person search, see {@link PersonNameQuery}.
+     */
+    @Column(name = "search_name", length = 511)
+    private String searchName;
 
     @ElementCollection(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateConfig.USER_ROLES_REGION)
     @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
     @Column(name = "role")
     private Set<Role> roles;
 
+    @PrePersist
+    @PreUpdate
+    void updateSearchName() {
+        searchName = PersonNameQuery.searchName(name, surname);
+    }
+
     public Long getId() {
         return id;
     }
@@ -50,6 +76,14 @@ public class User {
         this.login = login;
     }
 
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
     public String getName() {
         return name;
     }
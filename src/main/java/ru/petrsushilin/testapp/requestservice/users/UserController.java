@@ -1,17 +1,23 @@
 package ru.petrsushilin.testapp.requestservice.users;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.*;
+import ru.petrsushilin.testapp.requestservice.users.dto.UserResponseDTO;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
  * The controller for handling admin methods for manage users.
  * This .class using for:
- * - searching list of all users.
+ * - searching list of all users page by page and dump of all users.
  * - searching all users by full name or some part.
  * - promote user to operator, user role remains.
  *
@@ -22,6 +28,8 @@ import java.util.List;
 @RestController
 @RequestMapping("/users")
 public class UserController {
+    private static final String HAS_MORE_HEADER = "X-Has-More";
+
     private final UserService userService;
 
     @Autowired
@@ -31,35 +39,66 @@ public class UserController {
 
 
     /**
-     * Handle using for searching list of all users.
+     * Handle using for searching list of all users with their roles.
+     * Users are ordered by ID, the next page is requested with the ID of the last user of the current page.
+     * Response paged by 5 elements, header "X-Has-More" tells whether the next page exists.
      * Required Role: Admin.
      * Required HTTP method: GET.
      * Correct response status code: 200 OK.
-     * @return ResponseEntity {@link List} of {@link User}
+     * @param afterID consists of {@link Long} ID of the last user of the previous page, absent for the first page.
+     * @return ResponseEntity {@link List} of {@link UserResponseDTO}
      */
     @Secured("ROLE_ADMIN")
     @GetMapping(value = "/list")
-    public ResponseEntity<List<User>> getUsers() {
+    public ResponseEntity<List<UserResponseDTO>> getUsers(@RequestParam(value = "after", required = true, defaultValue = "0") Long afterID) {
+        Slice<UserResponseDTO> users = userService.getUsers(afterID);
+
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(userService.getUsers());
+                .header(HAS_MORE_HEADER, String.valueOf(users.hasNext()))
+                .body(users.getContent());
+    }
+
+    /**
+     * Handle using for dump of all users with their roles, without pagination.
+     * Users are written to response one by one as JSON lines, ordered by ID.
+     * Required Role: Admin.
+     * Required HTTP method: GET.
+     * Correct response status code: 200 OK.
+     */
+    @Secured("ROLE_ADMIN")
+    @GetMapping(value = "/list/stream")
+    public void exportUsers(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        userService.exportUsers(response.getWriter());
     }
 
     /**
      * Handle using for searching all users by full name or some part.
-     * It works same with name/surname and surname/name formats and with only part of full name by the way it have worse performance.
+     * It works same with name/surname and surname/name formats, with parts of words and with any case and whitespace.
+     * Best matches come first: whole words, then word beginnings, then any other parts.
+     * Response paged by 5 elements, header "X-Has-More" tells whether the next page exists.
      * Required Role: Admin.
      * Required HTTP method: GET.
      * Correct response status code: 200 OK.
      * @param name consists of {@link String} as full name or some part of it.
-     * @return ResponseEntity {@link List} of {@link User}.
+     * @param page consists of {@link int} number of page for pagination.
+     * @return ResponseEntity {@link List} of {@link UserResponseDTO}.
+     * @throws IllegalArgumentException if name is blank.
      */
     @Secured("ROLE_ADMIN")
     @GetMapping(value = "/{name}")
-    public ResponseEntity<List<?>> getUserByName(@PathVariable String name) {
+    public ResponseEntity<List<UserResponseDTO>> getUserByName(@PathVariable String name,
+                                                               @RequestParam(value = "page", required = true, defaultValue = "0") int page) {
+        Slice<UserResponseDTO> users = userService.getUserByName(name, page);
+
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(userService.getUserByName(name));
+                .header(HAS_MORE_HEADER, String.valueOf(users.hasNext()))
+                .body(users.getContent());
     }
 
     /**
@@ -68,11 +107,11 @@ public class UserController {
      * Required HTTP method: POST.
      * Correct response status code: 200 OK.
      * @param userID consists of {@link Long}.
-     * @return ResponseEntity {@link User}
+     * @return ResponseEntity {@link UserResponseDTO}
      */
     @Secured("ROLE_ADMIN")
     @PostMapping(value = "/{userID}")
-    public ResponseEntity<?> addUserOperatorRole(@PathVariable Long userID) {
+    public ResponseEntity<UserResponseDTO> addUserOperatorRole(@PathVariable Long userID) {
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(userService.promoteToOperator(userID));
@@ -0,0 +1,91 @@
+package ru.petrsushilin.testapp.requestservice.users;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Principals of users for authentication, loaded by login with roles in one query.
+ * Every authenticated call looks the principal up, so principals are kept in a bounded cache
+ * for {@code app.security.principalCache.ttl} and evicted when roles of the user change.
+ * Unknown logins are not cached.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+@Service
+public class UserPrincipalService implements UserDetailsService {
+    private final UserRepository userRepository;
+    private final Cache<String, UserDetails> principals;
+
+    @Autowired
+    public UserPrincipalService(UserRepository userRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.security.principalCache.maxSize}") long maxSize,
+                                @Value("${app.security.principalCache.ttl}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "user.principals");
+    }
+
+    /*------------------------------------------- HIDE ------------------------------------------*/
+
+    private UserDetails loadPrincipal(String login) {
+        return userRepository.findWithRolesByLogin(login)
+                .map(user -> {
+                    List<SimpleGrantedAuthority> authorities = new ArrayList<>(user.getRoles().size());
+                    for (Role role : user.getRoles())
+                        authorities.add(new SimpleGrantedAuthority(role.getAuthority()));
+
+                    return org.springframework.security.core.userdetails.User
+                            .withUsername(user.getLogin())
+                            // users without password cannot log in
+                            .password(user.getPassword() != null ? user.getPassword() : "")
+                            .disabled(user.getPassword() == null)
+                            .authorities(authorities)
+                            .build();
+                })
+                .orElse(null);
+    }
+
+    /*------------------------------------------- PUBLIC ------------------------------------------*/
+
+    /**
+     * Returns a copy of the cached principal: the authentication manager erases credentials
+     * of the returned principal after login.
+     *
+     * @throws UsernameNotFoundException if user with the login not found.
+     */
+    @Override
+    public UserDetails loadUserByUsername(String login) {
+        UserDetails principal = principals.get(login, this::loadPrincipal);
+        if (principal == null)
+            throw new UsernameNotFoundException("User with login " + login + " not found");
+
+        return org.springframework.security.core.userdetails.User.withUserDetails(principal).build();
+    }
+
+    @TransactionalEventListener
+    public void onUserRolesChanged(UserRolesChangedEvent event) {
+        principals.invalidate(event.getLogin());
+    }
+}
@@ -1,10 +1,17 @@
 package ru.petrsushilin.testapp.requestservice.users;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import ru.petrsushilin.testapp.requestservice.users.dto.UserResponseDTO;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * @author Petr Sushilin
@@ -12,8 +19,22 @@ import java.util.List;
  * @since 05.05.2024
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-    @Query("SELECT u FROM User u WHERE " +
-            "(u.name = :namePart1 AND u.surname = :namePart2) OR (u.name = :namePart2 AND u.surname = :namePart1)")
-    List<User> findByName(String namePart1, String namePart2);
+public interface UserRepository extends JpaRepository<User, Long>, UserSearchRepository {
+    String RESPONSE_PROJECTION = "SELECT new ru.petrsushilin.testapp.requestservice.users.dto.UserResponseDTO(" +
+            "u.id, u.login, u.name, u.surname) FROM User u ";
+
+    /**
+     * Keyset page of users ordered by id, the sort of the pageable is ignored.
+     */
+    @Query(RESPONSE_PROJECTION + "WHERE u.id > :afterID ORDER BY u.id")
+    Slice<UserResponseDTO> findUsersAfter(@Param("afterID") Long afterID, Pageable pageable);
+
+    @Query("SELECT u.id AS userID, r AS role FROM User u JOIN u.roles r WHERE u.id IN :userIDs")
+    List<UserRoleView> findRolesByUserIDs(@Param("userIDs") Collection<Long> userIDs);
+
+    @EntityGraph(attributePaths = "roles")
+    Optional<User> findWithRolesByLogin(String login);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :userIDs")
+    List<Long> findExistingIDs(@Param("userIDs") Collection<Long> userIDs);
 }
@@ -0,0 +1,16 @@
+package ru.petrsushilin.testapp.requestservice.users;
+
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+/**
+ * Projection of one role of a user, roles of many users are loaded with one query.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public interface UserRoleView {
+    Long getUserID();
+
+    Role getRole();
+}
@@ -0,0 +1,21 @@
+package ru.petrsushilin.testapp.requestservice.users;
+
+/**
+ * Published by {@link UserService} when roles of the user were changed.
+ * Listeners should react after commit, so they do not cache the state of the running transaction.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public class UserRolesChangedEvent {
+    private final String login;
+
+    public UserRolesChangedEvent(String login) {
+        this.login = login;
+    }
+
+    public String getLogin() {
+        return login;
+    }
+}
@@ -0,0 +1,27 @@
+package ru.petrsushilin.testapp.requestservice.users;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import ru.petrsushilin.testapp.requestservice.users.dto.UserResponseDTO;
+
+import java.util.stream.Stream;
+
+/**
+ * Ranked person search over users, see {@link PersonNameQuery}, and a forward-only stream of all users for dumps.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public interface UserSearchRepository {
+    /**
+     * Best matches first, equal matches ordered by surname, name and id. The sort of the pageable is ignored.
+     */
+    Slice<User> searchByName(PersonNameQuery query, Pageable pageable);
+
+    /**
+     * Users without roles ordered by id, fetched by {@code fetchSize} from a server side cursor,
+     * so the stream must be consumed and closed inside a transaction.
+     */
+    Stream<UserResponseDTO> streamUsers(int fetchSize);
+}
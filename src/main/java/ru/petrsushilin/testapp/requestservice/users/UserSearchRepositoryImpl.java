@@ -0,0 +1,57 @@
+package ru.petrsushilin.testapp.requestservice.users;
+
+import org.hibernate.jpa.QueryHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import ru.petrsushilin.testapp.requestservice.users.dto.UserResponseDTO;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Criteria based implementation of {@link UserSearchRepository}.
+ *
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public class UserSearchRepositoryImpl implements UserSearchRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<User> searchByName(PersonNameQuery nameQuery, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<User> query = cb.createQuery(User.class);
+        Root<User> user = query.from(User.class);
+        Path<String> searchName = user.get("searchName");
+
+        query.select(user)
+                .where(nameQuery.toPredicate(cb, searchName))
+                .orderBy(cb.asc(nameQuery.rank(cb, searchName)),
+                        cb.asc(user.get("surname")), cb.asc(user.get("name")), cb.asc(user.get("id")));
+
+        List<User> users = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = users.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? users.subList(0, pageable.getPageSize()) : users, pageable, hasNext);
+    }
+
+    @Override
+    public Stream<UserResponseDTO> streamUsers(int fetchSize) {
+        return entityManager.createQuery(UserRepository.RESPONSE_PROJECTION + "ORDER BY u.id", UserResponseDTO.class)
+                .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(QueryHints.HINT_READONLY, true)
+                .getResultStream();
+    }
+}
@@ -1,12 +1,27 @@
 package ru.petrsushilin.testapp.requestservice.users;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.petrsushilin.testapp.requestservice.global.exceptions.IdentifierMismatchException;
+import ru.petrsushilin.testapp.requestservice.users.dto.UserResponseDTO;
 import ru.petrsushilin.testapp.requestservice.users.enums.Role;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * @author Petr Sushilin
@@ -16,34 +31,117 @@ import java.util.List;
 @Service
 public class UserService {
     private final UserRepository userRepository;
+    private final ObjectWriter jsonWriter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, ObjectMapper objectMapper,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.jsonWriter = objectMapper
+                .writerFor(UserResponseDTO.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
     }
 
+    @Value("${app.pagination.defaultPageSize}")
+    private int defaultPageSize;
+
+    @Value("${app.export.fetchSize}")
+    private int exportFetchSize;
+
+    /*------------------------------------------- HIDE ------------------------------------------*/
+
+    /**
+     * Loads roles of all given users with one query.
+     */
+    private void setRoles(List<UserResponseDTO> users) {
+        if (users.isEmpty())
+            return;
+
+        Map<Long, UserResponseDTO> byID = new HashMap<>();
+        users.forEach(user -> byID.put(user.getUserID(), user));
+        userRepository.findRolesByUserIDs(byID.keySet())
+                .forEach(role -> byID.get(role.getUserID()).getRoles().add(role.getRole().name()));
+    }
+
+    private static UserResponseDTO toResponse(User user) {
+        return new UserResponseDTO(user.getId(), user.getLogin(), user.getName(), user.getSurname());
+    }
+
+    /*------------------------------------------- PUBLIC ------------------------------------------*/
+
+    /**
+     * Method find page of users with ID greater than afterID, ordered by ID.
+     *
+     * @param afterID: ID of the last user of the previous page, 0 for the first page
+     * @return Slice of userResponseDTO with roles
+     */
     @Transactional(readOnly = true)
-    public List<User> getUsers() {
-        return userRepository.findAll();
+    public Slice<UserResponseDTO> getUsers(Long afterID) {
+        Slice<UserResponseDTO> users = userRepository.findUsersAfter(afterID, PageRequest.of(0, defaultPageSize));
+        setRoles(users.getContent());
+        return users;
     }
 
+    /**
+     * Method write all users ordered by ID to the writer as JSON lines.
+     * Users are read through a forward-only cursor, roles are loaded with one query per fetched chunk.
+     *
+     * @return number of written users
+     */
     @Transactional(readOnly = true)
-    public List<User> getUserByName(String fullName) {
-        String[] nameParts = fullName.split(" ");
-        String namePart1 = nameParts[0];
-        String namePart2 = nameParts.length > 1 ? nameParts[1] : "";
+    public long exportUsers(Writer writer) throws IOException {
+        long count = 0;
+        List<UserResponseDTO> chunk = new ArrayList<>(exportFetchSize);
+        try (Stream<UserResponseDTO> users = userRepository.streamUsers(exportFetchSize)) {
+            Iterator<UserResponseDTO> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == exportFetchSize || !iterator.hasNext()) {
+                    setRoles(chunk);
+                    for (UserResponseDTO user : chunk) {
+                        jsonWriter.writeValue(writer, user);
+                        writer.write('\n');
+                    }
+                    count += chunk.size();
+                    chunk.clear();
+                }
+            }
+        }
+        writer.flush();
+        return count;
+    }
 
-        return userRepository.findByName(namePart1, namePart2);
+    /**
+     * Method find page of users by full name or some part, best matches first.
+     *
+     * @return Slice of userResponseDTO with roles, loaded with one query for the whole page
+     */
+    @Transactional(readOnly = true)
+    public Slice<UserResponseDTO> getUserByName(String fullName, int page) {
+        Slice<UserResponseDTO> users = userRepository
+                .searchByName(PersonNameQuery.parse(fullName), PageRequest.of(page, defaultPageSize))
+                .map(UserService::toResponse);
+        setRoles(users.getContent());
+        return users;
     }
 
     @Transactional(rollbackFor = Exception.class)
-    public User promoteToOperator(Long userID) {
+    public UserResponseDTO promoteToOperator(Long userID) {
         User user = userRepository
                 .findById(userID)
                 .orElseThrow(() -> new IdentifierMismatchException("User with ID " + userID + " not found"));
 
         user.getRoles().add(Role.OPERATOR);
+        // cached principal is evicted after commit
+        eventPublisher.publishEvent(new UserRolesChangedEvent(user.getLogin()));
 
-        return userRepository.save(user);
+        UserResponseDTO response = toResponse(userRepository.save(user));
+        user.getRoles().stream()
+                .sorted()
+                .forEach(role -> response.getRoles().add(role.name()));
+        return response;
     }
 }
@@ -0,0 +1,70 @@
+package ru.petrsushilin.testapp.requestservice.users.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Petr Sushilin
+ * @version 1.0
+ * @since 18.10.2026
+ */
+public class UserResponseDTO {
+    private Long userID;
+    private String login;
+    private String name;
+    private String surname;
+    private List<String> roles = new ArrayList<>();
+
+    public UserResponseDTO() {
+    }
+
+    /**
+     * Used by JPQL constructor expressions of listing queries, roles are added separately.
+     */
+    public UserResponseDTO(Long userID, String login, String name, String surname) {
+        this.userID = userID;
+        this.login = login;
+        this.name = name;
+        this.surname = surname;
+    }
+
+    public Long getUserID() {
+        return userID;
+    }
+
+    public void setUserID(Long userID) {
+        this.userID = userID;
+    }
+
+    public String getLogin() {
+        return login;
+    }
+
+    public void setLogin(String login) {
+        this.login = login;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getSurname() {
+        return surname;
+    }
+
+    public void setSurname(String surname) {
+        this.surname = surname;
+    }
+
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    public void setRoles(List<String> roles) {
+        this.roles = roles;
+    }
+}
@@ -1,5 +1,8 @@
 package ru.petrsushilin.testapp.requestservice.users.enums;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * @author Petr Sushilin
  * @version 1.0
@@ -8,5 +11,28 @@ package ru.petrsushilin.testapp.requestservice.users.enums;
 public enum Role {
     ADMIN,
     USER,
-    OPERATOR
+    OPERATOR;
+
+    private static final Map<String, Role> BY_AUTHORITY = new HashMap<>();
+
+    static {
+        for (Role role : values())
+            BY_AUTHORITY.put(role.authority, role);
+    }
+
+    private final String authority = "ROLE_" + name();
+
+    /**
+     * @return granted authority of the role, e.g. "ROLE_OPERATOR".
+     */
+    public String getAuthority() {
+        return authority;
+    }
+
+    /**
+     * @return role of the granted authority or null if the authority is not a role.
+     */
+    public static Role fromAuthority(String authority) {
+        return BY_AUTHORITY.get(authority);
+    }
 }
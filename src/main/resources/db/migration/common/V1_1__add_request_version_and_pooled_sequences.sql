@@ -0,0 +1,7 @@
+-- Optimistic locking of requests, existing rows start at version 0.
+ALTER TABLE requests ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+-- Pooled identifiers of users and requests, Hibernate reserves 50 values per call.
+-- Sequences are moved past identifiers of existing rows by the vendor migration of the next version.
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE requests_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,35 @@
+-- Schema mapped by the User and Request entities before Flyway was introduced.
+-- Existing databases already have it and are baselined at this version, later changes are separate migrations.
+
+CREATE SEQUENCE hibernate_sequence START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE users
+(
+    id      BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    login   VARCHAR(255) NOT NULL,
+    name    VARCHAR(255),
+    surname VARCHAR(255),
+    CONSTRAINT users_pk PRIMARY KEY (id),
+    CONSTRAINT users_login_unique UNIQUE (login)
+);
+
+CREATE INDEX name_index ON users (name);
+CREATE INDEX surname_index ON users (surname);
+
+CREATE TABLE user_roles
+(
+    user_id BIGINT  NOT NULL,
+    role    INTEGER,
+    CONSTRAINT user_roles_user_fk FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE requests
+(
+    id          BIGINT       NOT NULL,
+    created_at  DATE         NOT NULL,
+    user_id     BIGINT       NOT NULL,
+    stage       VARCHAR(255) NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    CONSTRAINT requests_pk PRIMARY KEY (id),
+    CONSTRAINT requests_user_fk FOREIGN KEY (user_id) REFERENCES users (id)
+);
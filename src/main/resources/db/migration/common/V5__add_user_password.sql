@@ -0,0 +1,4 @@
+-- Password of users for HTTP basic authentication, see UserPrincipalService.
+-- Values are stored with the id prefix of the delegating password encoder, e.g. {bcrypt}$2a$10$...
+-- Users without password cannot log in.
+ALTER TABLE users ADD COLUMN password VARCHAR(255);
@@ -0,0 +1,12 @@
+-- Transactional outbox of request stage transitions, see RequestOutbox.
+-- Rows are written in the transaction of the transition and deleted by RequestOutboxRelay after delivery.
+-- Identity is used instead of a pooled sequence, so a whole chunk is recorded with one INSERT ... SELECT.
+CREATE TABLE request_outbox
+(
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    request_id BIGINT       NOT NULL,
+    from_stage VARCHAR(255) NOT NULL,
+    to_stage   VARCHAR(255) NOT NULL,
+    changed_at TIMESTAMP    NOT NULL,
+    CONSTRAINT request_outbox_pk PRIMARY KEY (id)
+);
@@ -0,0 +1,3 @@
+-- Same as the PostgreSQL migration of this version: the next value is max + 50, so identifiers start at max + 1.
+ALTER SEQUENCE users_seq RESTART WITH (SELECT COALESCE(MAX(id) + 50, 1) FROM users);
+ALTER SEQUENCE requests_seq RESTART WITH (SELECT COALESCE(MAX(id) + 50, 1) FROM requests);
@@ -0,0 +1,7 @@
+-- Normalized "name surname" for person search, see PersonNameQuery.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS search_name VARCHAR(511);
+
+-- PersonNameQuery.normalize without NFKC, which H2 does not provide
+UPDATE users
+SET search_name = TRIM(REGEXP_REPLACE(REPLACE(LOWER(COALESCE(name, '') || ' ' || COALESCE(surname, '')), 'ё', 'е'), '\s+', ' '))
+WHERE search_name IS NULL;
@@ -0,0 +1,4 @@
+-- Listings filter by author or stage and sort by (created_at, id), see the PostgreSQL migration of the same version.
+CREATE INDEX requests_user_created_index ON requests (user_id, created_at, id);
+CREATE INDEX requests_stage_created_index ON requests (stage, created_at, id);
+CREATE INDEX user_roles_user_index ON user_roles (user_id);
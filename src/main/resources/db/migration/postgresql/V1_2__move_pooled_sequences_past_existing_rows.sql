@@ -0,0 +1,4 @@
+-- The pooled optimizer uses the 50 values up to the one returned by the sequence,
+-- so after setval(max) the next identifiers start at max + 1. Empty tables keep the sequences as they are.
+SELECT setval('users_seq', MAX(id)) FROM users HAVING MAX(id) IS NOT NULL;
+SELECT setval('requests_seq', MAX(id)) FROM requests HAVING MAX(id) IS NOT NULL;
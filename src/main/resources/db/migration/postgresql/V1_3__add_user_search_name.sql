@@ -0,0 +1,7 @@
+-- Normalized "name surname" for person search, see PersonNameQuery.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS search_name VARCHAR(511);
+
+-- same normalization as PersonNameQuery.normalize for existing rows, new rows are filled by the application
+UPDATE users
+SET search_name = btrim(regexp_replace(replace(lower(normalize(coalesce(name, '') || ' ' || coalesce(surname, ''), NFKC)), 'ё', 'е'), '\s+', ' ', 'g'))
+WHERE search_name IS NULL;
@@ -0,0 +1,8 @@
+-- Listings filter by author or stage and sort by (created_at, id), so both the filter and the order come
+-- from one index range scan, keyset pages seek into it directly.
+-- CONCURRENTLY keeps the table writable, Flyway runs such a migration outside of a transaction.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS requests_user_created_index ON requests (user_id, created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS requests_stage_created_index ON requests (stage, created_at, id);
+-- the operator inbox reads only submitted requests, which are a small part of the table
+CREATE INDEX CONCURRENTLY IF NOT EXISTS requests_submitted_created_index ON requests (created_at, id) WHERE stage = 'SUBMITTED';
+CREATE INDEX CONCURRENTLY IF NOT EXISTS user_roles_user_index ON user_roles (user_id);
@@ -0,0 +1,3 @@
+-- Person search over users.search_name, see PersonNameQuery.
+-- Every token is matched with LIKE '%token%', pg_trgm lets the GIN index serve it for tokens of 3+ characters.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_search_name_trgm_index ON users USING gin (search_name gin_trgm_ops);
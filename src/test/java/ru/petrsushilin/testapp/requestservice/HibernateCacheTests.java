@@ -0,0 +1,115 @@
+package ru.petrsushilin.testapp.requestservice;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.petrsushilin.testapp.requestservice.global.sql.SqlStatementCounter;
+import ru.petrsushilin.testapp.requestservice.requests.Request;
+import ru.petrsushilin.testapp.requestservice.requests.RequestService;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestBatchStageDTO;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.users.User;
+import ru.petrsushilin.testapp.requestservice.users.UserService;
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.hibernate.queryCache=true")
+@ActiveProfiles("test")
+class HibernateCacheTests {
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private RequestService requestService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void userWithRolesIsReadFromSecondLevelCache() {
+        User user = persistUserWithRequest("cached.user", Stage.DRAFT);
+        loadUserWithRoles(user.getId());
+
+        SqlStatementCounter.start();
+        assertThat(loadUserWithRoles(user.getId())).containsExactly(Role.USER);
+        assertThat(SqlStatementCounter.stop()).isZero();
+
+        userService.promoteToOperator(user.getId());
+        assertThat(loadUserWithRoles(user.getId())).containsExactlyInAnyOrder(Role.USER, Role.OPERATOR);
+    }
+
+    @Test
+    void submittedPagesAreCachedUntilStageTransition() {
+        User user = persistUserWithRequest("cached.operator", Stage.SUBMITTED);
+        int submitted = requestService.getOperatorRequests("reverse", 0).getNumberOfElements();
+
+        SqlStatementCounter.start();
+        assertThat(requestService.getOperatorRequests("reverse", 0).getNumberOfElements()).isEqualTo(submitted);
+        assertThat(SqlStatementCounter.stop()).isZero();
+
+        RequestBatchStageDTO batch = new RequestBatchStageDTO();
+        batch.setRequestIDs(List.of(findRequestID(user)));
+        requestService.approveRequests(batch);
+
+        SqlStatementCounter.start();
+        requestService.getOperatorRequests("reverse", 0);
+        assertThat(SqlStatementCounter.stop()).isPositive();
+    }
+
+    @Test
+    void stageTransitionKeepsUserRegion() {
+        User user = persistUserWithRequest("cached.author", Stage.SUBMITTED);
+        loadUserWithRoles(user.getId());
+        assertThat(entityManagerFactory.getCache().contains(User.class, user.getId())).isTrue();
+
+        RequestBatchStageDTO batch = new RequestBatchStageDTO();
+        batch.setRequestIDs(List.of(findRequestID(user)));
+        requestService.approveRequests(batch);
+
+        assertThat(entityManagerFactory.getCache().contains(User.class, user.getId())).isTrue();
+    }
+
+    private Long findRequestID(User user) {
+        return new TransactionTemplate(transactionManager).execute(status -> entityManager
+                .createQuery("SELECT r.id FROM Request r WHERE r.user.id = :userID", Long.class)
+                .setParameter("userID", user.getId())
+                .getSingleResult());
+    }
+
+    private User persistUserWithRequest(String login, Stage stage) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            User user = new User();
+            user.setLogin(login);
+            user.setName("Cached");
+            user.setSurname(login);
+            user.setRoles(EnumSet.of(Role.USER));
+            entityManager.persist(user);
+
+            Request request = new Request();
+            request.setUser(user);
+            request.setCreatedAt(LocalDate.now());
+            request.setStage(stage);
+            request.setDescription("cached");
+            entityManager.persist(request);
+            return user;
+        });
+    }
+
+    private EnumSet<Role> loadUserWithRoles(Long userID) {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                EnumSet.copyOf(entityManager.find(User.class, userID).getRoles()));
+    }
+}
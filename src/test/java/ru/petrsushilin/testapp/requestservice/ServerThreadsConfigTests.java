@@ -0,0 +1,45 @@
+package ru.petrsushilin.testapp.requestservice;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import ru.petrsushilin.testapp.requestservice.global.server.VirtualThreads;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * The virtual thread executor of Tomcat must not replace the task executor of Spring Boot.
+ */
+class ServerThreadsConfigTests {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+            .withUserConfiguration(ServerThreadsConfig.class)
+            // durations of @Value fields are converted as in the application
+            .withInitializer(context -> context.getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withPropertyValues("app.server.limiter.permits=0", "app.server.limiter.acquireTimeout=1s");
+
+    @Test
+    void platformThreadsKeepTaskExecutor() {
+        contextRunner.withPropertyValues("app.server.threads=platform")
+                .run(context -> {
+                    assertThat(context).hasBean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME);
+                    assertThat(context).doesNotHaveBean(WebServerFactoryCustomizer.class);
+                });
+    }
+
+    @Test
+    void virtualThreadsKeepTaskExecutor() {
+        assumeTrue(VirtualThreads.isSupported(), "virtual threads need Java 21");
+
+        contextRunner.withPropertyValues("app.server.threads=virtual")
+                .run(context -> {
+                    assertThat(context).hasBean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME);
+                    assertThat(context).hasSingleBean(WebServerFactoryCustomizer.class);
+                });
+    }
+}
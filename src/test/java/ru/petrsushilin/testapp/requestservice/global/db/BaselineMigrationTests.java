@@ -0,0 +1,42 @@
+package ru.petrsushilin.testapp.requestservice.global.db;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BaselineMigrationTests {
+
+    @Test
+    void migratesDatabaseCreatedBeforeFlyway() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:Baseline-" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/common/V1__create_schema.sql")).execute(dataSource);
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO users (login, name, surname) VALUES ('petr', 'Пётр', '  Сушилин ')");
+        long userID = jdbc.queryForObject("SELECT id FROM users WHERE login = 'petr'", Long.class);
+        jdbc.update("INSERT INTO requests (id, created_at, user_id, stage, description) VALUES (70, CURRENT_DATE, ?, 'DRAFT', 'old')", userID);
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        assertThat(jdbc.queryForObject("SELECT search_name FROM users WHERE id = ?", String.class, userID))
+                .isEqualTo("петр сушилин");
+        assertThat(jdbc.queryForObject("SELECT version FROM requests WHERE id = 70", Long.class)).isZero();
+        // the pooled optimizer hands out the 50 values up to the returned one
+        assertThat(jdbc.queryForObject("SELECT NEXT VALUE FOR requests_seq", Long.class) - 49).isEqualTo(71);
+        assertThat(jdbc.queryForObject("SELECT NEXT VALUE FOR users_seq", Long.class) - 49).isEqualTo(userID + 1);
+    }
+}
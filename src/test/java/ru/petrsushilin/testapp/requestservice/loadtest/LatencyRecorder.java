@@ -0,0 +1,67 @@
+package ru.petrsushilin.testapp.requestservice.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latency samples of one load test client, grouped by endpoint.
+ * Every client records into its own instance, recorders are merged when the run is over.
+ */
+class LatencyRecorder {
+    private final Map<String, Samples> samples = new TreeMap<>();
+
+    void record(String endpoint, long nanos, boolean success) {
+        Samples endpointSamples = samples.computeIfAbsent(endpoint, key -> new Samples());
+        endpointSamples.add(nanos);
+        if (!success)
+            endpointSamples.errors++;
+    }
+
+    void merge(LatencyRecorder other) {
+        other.samples.forEach((endpoint, otherSamples) ->
+                samples.computeIfAbsent(endpoint, key -> new Samples()).addAll(otherSamples));
+    }
+
+    long errors() {
+        return samples.values().stream().mapToLong(endpointSamples -> endpointSamples.errors).sum();
+    }
+
+    String report(double seconds) {
+        StringBuilder report = new StringBuilder(String.format("%n%-24s %10s %8s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms"));
+        samples.forEach((endpoint, endpointSamples) -> {
+            long[] sorted = Arrays.copyOf(endpointSamples.values, endpointSamples.size);
+            Arrays.sort(sorted);
+            report.append(String.format("%-24s %10d %8d %10.1f %10.2f %10.2f%n",
+                    endpoint, sorted.length, endpointSamples.errors, sorted.length / seconds,
+                    percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6));
+        });
+        return report.toString();
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0)
+            return 0;
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static class Samples {
+        private long[] values = new long[1024];
+        private int size;
+        private long errors;
+
+        private void add(long value) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        private void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++)
+                add(other.values[i]);
+            errors += other.errors;
+        }
+    }
+}
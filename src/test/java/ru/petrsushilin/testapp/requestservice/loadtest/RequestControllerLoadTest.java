@@ -0,0 +1,168 @@
+package ru.petrsushilin.testapp.requestservice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import ru.petrsushilin.testapp.requestservice.users.User;
+import ru.petrsushilin.testapp.requestservice.users.UserRepository;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Drives the request flow and the listing endpoints concurrently against the embedded database
+ * and reports p50/p99 latency and throughput per endpoint.
+ * Run with {@code mvn test -Ploadtest}, sizes are overridden with system properties, for example
+ * {@code -Dapp.loadtest.clients=64 -Dapp.loadtest.duration=2m -Dapp.loadtest.seed.requests=5000000}.
+ * Thread models are compared on the listing endpoints with the same client count, for example
+ * {@code -Dapp.loadtest.clients=1000 -Dapp.loadtest.writes=false} once as is and once with
+ * {@code -Dapp.server.threads=virtual -Dapp.server.limiter.enabled=true -Dapp.server.limiter.acquireTimeout=30s}
+ * on Java 21, so that clients wait for permits instead of counting rejections as errors.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class RequestControllerLoadTest {
+    private static final Logger log = LoggerFactory.getLogger(RequestControllerLoadTest.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${app.loadtest.clients:32}")
+    private int clients;
+
+    @Value("${app.loadtest.duration:30s}")
+    private Duration duration;
+
+    @Value("${app.loadtest.writes:true}")
+    private boolean writes;
+
+    @Value("${app.server.threads}")
+    private String threads;
+
+    @Value("${app.loadtest.login}:${app.loadtest.password}")
+    private String credentials;
+
+    @Test
+    void measureEndpoints() throws Exception {
+        List<User> users = userRepository.findAll(PageRequest.of(0, 1000)).getContent();
+        String authorization = "Basic " + Base64.getEncoder()
+                .encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newFixedThreadPool(clients))
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<LatencyRecorder>> futures = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            long seed = i;
+            futures.add(executor.submit(() ->
+                    new LoadClient(httpClient, authorization, users, new SplittableRandom(seed)).run(deadline)));
+        }
+
+        LatencyRecorder total = new LatencyRecorder();
+        for (Future<LatencyRecorder> future : futures)
+            total.merge(future.get());
+        executor.shutdown();
+
+        log.info("Load test with {} clients on {} threads for {}:{}",
+                clients, threads, duration, total.report(duration.toMillis() / 1000.0));
+        assertEquals(0, total.errors(), "Endpoints returned unexpected status codes");
+    }
+
+    private class LoadClient {
+        private final HttpClient httpClient;
+        private final String authorization;
+        private final List<User> users;
+        private final SplittableRandom random;
+        private final LatencyRecorder recorder = new LatencyRecorder();
+
+        private LoadClient(HttpClient httpClient, String authorization, List<User> users, SplittableRandom random) {
+            this.httpClient = httpClient;
+            this.authorization = authorization;
+            this.users = users;
+            this.random = random;
+        }
+
+        private LatencyRecorder run(long deadline) throws Exception {
+            while (System.nanoTime() < deadline) {
+                User user = users.get(random.nextInt(users.size()));
+                String sort = random.nextBoolean() ? "default" : "reverse";
+
+                JsonNode created = !writes ? null : call("create", post("/request/create", String.format(
+                        "{\"userID\":%d,\"description\":\"load test draft\"}", user.getId())));
+                if (created != null) {
+                    long requestID = created.get("requestID").asLong();
+                    String stage = "{\"requestID\":%d,\"userID\":%d,\"currentStage\":\"%s\"}";
+                    call("send", post("/request/send", String.format(stage, requestID, user.getId(), "DRAFT")));
+                    call("approve", post("/request/approve", String.format(stage, requestID, user.getId(), "SUBMITTED")));
+                }
+
+                call("list/id", get("/request/list/id" + user.getId() + "?sort=" + sort + "&page=" + random.nextInt(3)));
+                call("all-requests", get("/request/all-requests?sort=" + sort + "&page=" + random.nextInt(20)));
+                call("all-requests/seek", get("/request/all-requests/seek?sort=" + sort));
+                call("requests/{name}", get("/request/requests/"
+                        + user.getName() + "%20" + user.getSurname() + "?sort=" + sort));
+            }
+            return recorder;
+        }
+
+        private JsonNode call(String endpoint, HttpRequest request) throws Exception {
+            long started = System.nanoTime();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            boolean success = response.statusCode() / 100 == 2;
+            recorder.record(endpoint, System.nanoTime() - started, success);
+            if (!success)
+                log.warn("{} returned {}: {}", endpoint, response.statusCode(), response.body());
+            return success ? objectMapper.readTree(response.body()) : null;
+        }
+
+        private HttpRequest get(String path) {
+            return HttpRequest.newBuilder(uri(path))
+                    .header("Authorization", authorization)
+                    .GET()
+                    .build();
+        }
+
+        private HttpRequest post(String path, String body) {
+            return HttpRequest.newBuilder(uri(path))
+                    .header("Authorization", authorization)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+
+        private URI uri(String path) {
+            return URI.create("http://localhost:" + port + "/api/v1" + path);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DescriptionFormatterTests {
+    private final DescriptionFormatter descriptionFormatter = new DescriptionFormatter();
+
+    /**
+     * Implementation used by RequestService before the formatter, kept as the reference output.
+     */
+    private static String legacyAddDashes(String input) {
+        return input.chars().mapToObj(c -> (char) c + "-")
+                .collect(Collectors.joining())
+                .replaceAll("-$", "");
+    }
+
+    @Test
+    void matchesLegacyOutputForBmpText() {
+        List<String> inputs = List.of(
+                "", "a", "ab", "request", "need a new laptop", "a-", "--", "line\nbreak\n",
+                "Заявка на отпуск", "  spaces  ", "$1.00 \\ done");
+
+        inputs.forEach(input -> assertEquals(legacyAddDashes(input), descriptionFormatter.addDashes(input), input));
+    }
+
+    @Test
+    void keepsSurrogatePairsTogether() {
+        assertEquals("a-😀-b", descriptionFormatter.addDashes("a😀b"));
+        assertEquals("😀-😁", descriptionFormatter.addDashes("😀😁"));
+        assertEquals("😀", descriptionFormatter.addDashes("😀"));
+    }
+
+    @Test
+    void separatesUnpairedSurrogates() {
+        assertEquals("\uDE00-\uD83D", descriptionFormatter.addDashes("\uDE00\uD83D"));
+    }
+
+    @Test
+    void returnsNullForNull() {
+        assertNull(descriptionFormatter.addDashes(null));
+    }
+}
@@ -0,0 +1,119 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestBatchResultDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestBatchStageDTO;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.requests.enums.TransitionResult;
+import ru.petrsushilin.testapp.requestservice.requests.outbox.RequestStageEvent;
+import ru.petrsushilin.testapp.requestservice.requests.outbox.RequestStageEventRepository;
+import ru.petrsushilin.testapp.requestservice.users.User;
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Chunks of two requests, so the batch below is validated and updated by several statements.
+ */
+@SpringBootTest(properties = "app.batch.chunkSize=2")
+@ActiveProfiles("test")
+@RecordApplicationEvents
+class RequestBatchStageTests {
+    private static final long UNKNOWN_ID = -1L;
+
+    @Autowired
+    private RequestService requestService;
+    @Autowired
+    private RequestStageEventRepository eventRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ApplicationEvents applicationEvents;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void onlySubmittedRequestsAreApproved() {
+        List<Long> ids = persistRequests(Stage.SUBMITTED, Stage.DRAFT, Stage.SUBMITTED, Stage.REJECTED);
+        Long first = ids.get(0), draft = ids.get(1), second = ids.get(2), rejected = ids.get(3);
+
+        RequestBatchStageDTO batch = new RequestBatchStageDTO();
+        batch.setRequestIDs(List.of(first, draft, UNKNOWN_ID, second, rejected, first));
+        List<RequestBatchResultDTO> results = requestService.approveRequests(batch);
+
+        assertThat(results).extracting(RequestBatchResultDTO::getRequestID)
+                .containsExactly(first, draft, UNKNOWN_ID, second, rejected);
+        Map<Long, String> outcomes = results.stream().collect(Collectors.toMap(
+                RequestBatchResultDTO::getRequestID, result -> result.getResult() + ":" + result.getStage()));
+        assertThat(outcomes)
+                .containsEntry(first, TransitionResult.CHANGED + ":" + Stage.APPROVED)
+                .containsEntry(second, TransitionResult.CHANGED + ":" + Stage.APPROVED)
+                .containsEntry(draft, TransitionResult.STAGE_CONFLICT + ":" + Stage.DRAFT)
+                .containsEntry(rejected, TransitionResult.STAGE_CONFLICT + ":" + Stage.REJECTED)
+                .containsEntry(UNKNOWN_ID, TransitionResult.NOT_FOUND + ":null");
+
+        assertThat(eventRepository.findAll())
+                .filteredOn(event -> ids.contains(event.getRequestID()))
+                .extracting(RequestStageEvent::getRequestID, RequestStageEvent::getFromStage, RequestStageEvent::getToStage)
+                .containsExactlyInAnyOrder(
+                        tuple(first, Stage.SUBMITTED, Stage.APPROVED),
+                        tuple(second, Stage.SUBMITTED, Stage.APPROVED));
+
+        assertThat(applicationEvents.stream(RequestsChangedEvent.class))
+                .allMatch(event -> event.getStage() == Stage.APPROVED)
+                .flatExtracting(RequestsChangedEvent::getRequestIDs)
+                .containsExactlyInAnyOrder(first, second);
+    }
+
+    @Test
+    void nothingIsRecordedWithoutTransitions() {
+        List<Long> ids = persistRequests(Stage.DRAFT, Stage.APPROVED);
+
+        RequestBatchStageDTO batch = new RequestBatchStageDTO();
+        batch.setRequestIDs(List.of(ids.get(0), ids.get(1), UNKNOWN_ID));
+        List<RequestBatchResultDTO> results = requestService.rejectRequests(batch);
+
+        assertThat(results).extracting(RequestBatchResultDTO::getResult).containsExactly(
+                TransitionResult.STAGE_CONFLICT.name(), TransitionResult.STAGE_CONFLICT.name(), TransitionResult.NOT_FOUND.name());
+        assertThat(eventRepository.findAll()).noneMatch(event -> ids.contains(event.getRequestID()));
+        assertThat(applicationEvents.stream(RequestsChangedEvent.class)).isEmpty();
+    }
+
+    private List<Long> persistRequests(Stage... stages) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            User user = new User();
+            user.setLogin("batch" + System.nanoTime());
+            user.setName("Batch");
+            user.setSurname("Author");
+            user.setRoles(EnumSet.of(Role.USER));
+            entityManager.persist(user);
+
+            return Arrays.stream(stages).map(stage -> {
+                Request request = new Request();
+                request.setUser(user);
+                request.setCreatedAt(LocalDate.now());
+                request.setStage(stage);
+                request.setDescription("batch " + stage);
+                entityManager.persist(request);
+                return request.getId();
+            }).collect(Collectors.toList());
+        });
+    }
+}
@@ -0,0 +1,158 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import ru.petrsushilin.testapp.requestservice.global.sql.SqlStatementCountFilter;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestCreationDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestMessageDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestSetStageDTO;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.users.User;
+import ru.petrsushilin.testapp.requestservice.users.UserRepository;
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Stage changes of a request which is not in the state the client saw are refused.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@WithMockUser(roles = {"USER", "OPERATOR"})
+class RequestConflictTests {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private RequestRepository requestRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @SpyBean
+    private RequestService requestService;
+
+    private Long authorID;
+    private Long otherUserID;
+
+    @BeforeAll
+    void seed() {
+        authorID = persistUser("conflict.author");
+        otherUserID = persistUser("conflict.other");
+    }
+
+    @Test
+    void repeatedSubmitIsConflict() throws Exception {
+        Long requestID = createRequest();
+        send(requestID, authorID, null).andExpect(status().isOk());
+
+        send(requestID, authorID, null)
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.statusCode").value(409))
+                .andExpect(jsonPath("$.message").value("Request with id " + requestID
+                        + " has stage SUBMITTED instead of DRAFT."));
+    }
+
+    @Test
+    void staleVersionIsConflict() throws Exception {
+        Long requestID = createRequest();
+        long version = requestRepository.findVersionById(requestID).orElseThrow();
+
+        send(requestID, authorID, version + 1)
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Request with id " + requestID
+                        + " has version " + version + " instead of " + (version + 1) + "."));
+        assertThat(requestRepository.findVersionById(requestID)).contains(version);
+
+        send(requestID, authorID, version)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stage").value(Stage.SUBMITTED.name()));
+        assertThat(requestRepository.findVersionById(requestID)).contains(version + 1);
+    }
+
+    @Test
+    void transitionTakesUpdateReadAndOutboxInsert() throws Exception {
+        Long requestID = createRequest();
+
+        MvcResult result = send(requestID, authorID, null)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userSurname").value("conflict.author"))
+                .andReturn();
+        assertThat((Long) result.getRequest().getAttribute(SqlStatementCountFilter.STATEMENTS_ATTRIBUTE)).isEqualTo(3);
+    }
+
+    @Test
+    void otherUserCannotSubmit() throws Exception {
+        Long requestID = createRequest();
+
+        send(requestID, otherUserID, null)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("User id does not match with request author's ID."));
+        assertThat(requestRepository.findVersionById(requestID)).contains(0L);
+    }
+
+    @Test
+    void optimisticLockFailureIsConflict() throws Exception {
+        Long requestID = createRequest();
+        doThrow(new ObjectOptimisticLockingFailureException(Request.class, requestID))
+                .when(requestService).updateRequestMessage(any());
+
+        RequestMessageDTO message = new RequestMessageDTO();
+        message.setRequestID(requestID);
+        message.setAuthorID(authorID);
+        message.setDescription("changed meanwhile");
+        mockMvc.perform(post("/request/change-description")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(message)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.statusCode").value(409));
+    }
+
+    private ResultActions send(Long requestID, Long userID, Long version) throws Exception {
+        RequestSetStageDTO submit = new RequestSetStageDTO();
+        submit.setRequestID(requestID);
+        submit.setUserID(userID);
+        submit.setCurrentStage(Stage.DRAFT.name());
+        submit.setVersion(version);
+        return mockMvc.perform(post("/request/send")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(submit)));
+    }
+
+    private Long createRequest() {
+        RequestCreationDTO creation = new RequestCreationDTO();
+        creation.setUserID(authorID);
+        creation.setDescription("conflict");
+        return requestService.createRequest(creation).getRequestID();
+    }
+
+    private Long persistUser(String login) {
+        User user = new User();
+        user.setLogin(login);
+        user.setName("Conflict");
+        user.setSurname(login);
+        user.setRoles(EnumSet.of(Role.USER));
+        return userRepository.save(user).getId();
+    }
+}
@@ -0,0 +1,137 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestCreationDTO;
+import ru.petrsushilin.testapp.requestservice.users.User;
+import ru.petrsushilin.testapp.requestservice.users.UserRepository;
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@WithMockUser(roles = "USER")
+class RequestCreationTests {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private RequestRepository requestRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long firstAuthorID;
+    private Long secondAuthorID;
+
+    @BeforeAll
+    void seed() {
+        firstAuthorID = persistUser("batch.first", "First");
+        secondAuthorID = persistUser("batch.second", "Second");
+    }
+
+    @Test
+    void createdRequestHasAuthorNames() throws Exception {
+        mockMvc.perform(post("/request/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(creation(secondAuthorID, "single"))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.userID").value(secondAuthorID.intValue()))
+                .andExpect(jsonPath("$.userName").value("Second"))
+                .andExpect(jsonPath("$.userSurname").value("Batch"))
+                .andExpect(jsonPath("$.stage").value("DRAFT"));
+    }
+
+    @Test
+    void unknownAuthorIsBadRequest() throws Exception {
+        mockMvc.perform(post("/request/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(creation(-1L, "nobody"))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("User with ID -1 not found"));
+    }
+
+    @Test
+    void invalidRequestIsBadRequest() throws Exception {
+        long before = requestRepository.count();
+
+        mockMvc.perform(post("/request/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(creation(firstAuthorID, " "))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Description must not be empty."));
+        createBatch(creation(firstAuthorID, "fits"), creation(secondAuthorID, "x".repeat(256)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Description cannot be longer than 255 characters."));
+
+        assertThat(requestRepository.count()).isEqualTo(before);
+    }
+
+    @Test
+    void batchIsCreatedInOrder() throws Exception {
+        createBatch(creation(firstAuthorID, "one"), creation(secondAuthorID, "two"), creation(firstAuthorID, "three"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[*].description", contains("one", "two", "three")))
+                .andExpect(jsonPath("$[*].userID", contains(
+                        firstAuthorID.intValue(), secondAuthorID.intValue(), firstAuthorID.intValue())))
+                .andExpect(jsonPath("$[*].userName", contains("First", "Second", "First")))
+                .andExpect(jsonPath("$[*].stage", everyItem(is("DRAFT"))));
+    }
+
+    @Test
+    void unknownAuthorRejectsWholeBatch() throws Exception {
+        long before = requestRepository.count();
+
+        createBatch(creation(firstAuthorID, "kept out"), creation(-1L, "nobody"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Users with IDs [-1] not found"));
+
+        assertThat(requestRepository.count()).isEqualTo(before);
+    }
+
+    private ResultActions createBatch(RequestCreationDTO... creations) throws Exception {
+        return mockMvc.perform(post("/request/create/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(creations))));
+    }
+
+    private static RequestCreationDTO creation(Long userID, String description) {
+        RequestCreationDTO creation = new RequestCreationDTO();
+        creation.setUserID(userID);
+        creation.setDescription(description);
+        return creation;
+    }
+
+    private Long persistUser(String login, String name) {
+        User user = new User();
+        user.setLogin(login);
+        user.setName(name);
+        user.setSurname("Batch");
+        user.setRoles(EnumSet.of(Role.USER));
+        return userRepository.save(user).getId();
+    }
+}
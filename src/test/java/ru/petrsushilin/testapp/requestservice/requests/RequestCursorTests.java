@@ -0,0 +1,139 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestPageDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestResponseDTO;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.users.User;
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Most requests share one creation date, so pages are told apart by the id part of the key only.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@WithMockUser(roles = "USER")
+class RequestCursorTests {
+    private static final int REQUESTS = 13;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private RequestService requestService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Long userID;
+    private List<Long> ascendingIDs;
+
+    @BeforeAll
+    void seed() {
+        LocalDate today = LocalDate.now();
+        userID = new TransactionTemplate(transactionManager).execute(status -> {
+            User user = new User();
+            user.setLogin("cursor.user");
+            user.setName("Cursor");
+            user.setSurname("User");
+            user.setRoles(EnumSet.of(Role.USER));
+            entityManager.persist(user);
+
+            for (int i = 0; i < REQUESTS; i++) {
+                Request request = new Request();
+                request.setUser(user);
+                // two older requests, the rest were created on the same day
+                request.setCreatedAt(i < 2 ? today.minusDays(1) : today);
+                request.setStage(Stage.DRAFT);
+                request.setDescription("cursor " + i);
+                entityManager.persist(request);
+            }
+            return user.getId();
+        });
+        ascendingIDs = new TransactionTemplate(transactionManager).execute(status -> entityManager
+                .createQuery("SELECT r.id FROM Request r WHERE r.user.id = :userID ORDER BY r.createdAt, r.id", Long.class)
+                .setParameter("userID", userID)
+                .getResultList());
+    }
+
+    @Test
+    void nextAndPrevWalkWithoutDuplicatesOrGaps() {
+        for (String sort : List.of("default", "reverse")) {
+            List<Long> expected = new ArrayList<>(ascendingIDs);
+            if (sort.equals("reverse"))
+                Collections.reverse(expected);
+
+            List<List<Long>> forward = new ArrayList<>();
+            RequestPageDTO page = requestService.getUserRequestsByCursor(userID, sort, null);
+            assertThat(page.getPrevCursor()).isNull();
+            forward.add(ids(page));
+            while (page.getNextCursor() != null) {
+                page = requestService.getUserRequestsByCursor(userID, sort, page.getNextCursor());
+                forward.add(ids(page));
+            }
+            assertThat(forward.stream().flatMap(List::stream).collect(Collectors.toList())).isEqualTo(expected);
+
+            List<List<Long>> backward = new ArrayList<>();
+            backward.add(ids(page));
+            while (page.getPrevCursor() != null) {
+                page = requestService.getUserRequestsByCursor(userID, sort, page.getPrevCursor());
+                backward.add(0, ids(page));
+            }
+            assertThat(backward).isEqualTo(forward);
+        }
+    }
+
+    @Test
+    void tamperedCursorIsRejected() throws Exception {
+        String valid = requestService.getUserRequestsByCursor(userID, "default", null).getNextCursor();
+        String decoded = new String(Base64.getUrlDecoder().decode(valid), StandardCharsets.UTF_8);
+
+        List<String> tampered = List.of(
+                valid.substring(1),
+                encode("X" + decoded.substring(1)),
+                encode(decoded + ":1"),
+                encode(decoded.replaceFirst(":\\d+$", ":id")),
+                "not a cursor");
+        for (String cursor : tampered) {
+            assertThatIllegalArgumentException().isThrownBy(() -> RequestCursor.decode(cursor));
+            mockMvc.perform(get("/request/list/id" + userID + "/seek").param("cursor", cursor))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<Long> ids(RequestPageDTO page) {
+        return page.getContent().stream().map(RequestResponseDTO::getRequestID).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,147 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.petrsushilin.testapp.requestservice.global.sql.SqlStatementCountFilter;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestCreationDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestSetStageDTO;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.users.User;
+import ru.petrsushilin.testapp.requestservice.users.UserRepository;
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Conditional requests with the current ETag are answered by one statement without a body.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@WithMockUser(roles = {"USER", "OPERATOR"})
+class RequestETagTests {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private RequestService requestService;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userID;
+    private Long requestID;
+
+    @BeforeAll
+    void seed() {
+        User user = new User();
+        user.setLogin("etag.user");
+        user.setName("ETag");
+        user.setSurname("User");
+        user.setRoles(EnumSet.of(Role.USER));
+        userID = userRepository.save(user).getId();
+
+        RequestCreationDTO creation = new RequestCreationDTO();
+        creation.setUserID(userID);
+        creation.setDescription("tagged");
+        requestID = requestService.createRequest(creation).getRequestID();
+    }
+
+    @Test
+    void requestIsNotModifiedUntilItChanges() throws Exception {
+        String eTag = eTagOf("/request/" + requestID);
+
+        MvcResult notModified = getIfNoneMatch("/request/" + requestID, eTag);
+        assertThat(notModified.getResponse().getStatus()).isEqualTo(304);
+        assertThat(notModified.getResponse().getContentAsString()).isEmpty();
+        assertThat(statementsOf(notModified)).isEqualTo(1);
+
+        submit();
+
+        MvcResult modified = getIfNoneMatch("/request/" + requestID, eTag);
+        assertThat(modified.getResponse().getStatus()).isEqualTo(200);
+        assertThat(modified.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void userListingIsNotModifiedUntilAPageRowChanges() throws Exception {
+        String listing = "/request/list/id" + userID;
+        String eTag = eTagOf(listing);
+
+        MvcResult notModified = getIfNoneMatch(listing, eTag);
+        assertThat(notModified.getResponse().getStatus()).isEqualTo(304);
+        assertThat(statementsOf(notModified)).isEqualTo(1);
+
+        RequestCreationDTO creation = new RequestCreationDTO();
+        creation.setUserID(userID);
+        creation.setDescription("another");
+        requestService.createRequest(creation);
+
+        assertThat(getIfNoneMatch(listing, eTag).getResponse().getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void operatorListingIsNotModifiedWithoutLoadingRequests() throws Exception {
+        String eTag = eTagOf("/request/all-requests");
+
+        MvcResult notModified = getIfNoneMatch("/request/all-requests", eTag);
+        assertThat(notModified.getResponse().getStatus()).isEqualTo(304);
+        assertThat(statementsOf(notModified)).isEqualTo(1);
+    }
+
+    @Test
+    void personListingIsNotModifiedUntilAPageRowChanges() throws Exception {
+        String listing = "/request/requests/ETag User";
+        String eTag = eTagOf(listing);
+
+        MvcResult notModified = getIfNoneMatch(listing, eTag);
+        assertThat(notModified.getResponse().getStatus()).isEqualTo(304);
+        assertThat(notModified.getResponse().getContentAsString()).isEmpty();
+        assertThat(statementsOf(notModified)).isEqualTo(1);
+
+        RequestCreationDTO creation = new RequestCreationDTO();
+        creation.setUserID(userID);
+        creation.setDescription("one more");
+        requestService.createRequest(creation);
+
+        assertThat(getIfNoneMatch(listing, eTag).getResponse().getStatus()).isEqualTo(200);
+    }
+
+    private void submit() {
+        RequestSetStageDTO submit = new RequestSetStageDTO();
+        submit.setRequestID(requestID);
+        submit.setUserID(userID);
+        submit.setCurrentStage(Stage.DRAFT.name());
+        requestService.submitRequest(submit);
+    }
+
+    private String eTagOf(String uri) throws Exception {
+        String eTag = mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).startsWith("W/\"");
+        return eTag;
+    }
+
+    private MvcResult getIfNoneMatch(String uri, String eTag) throws Exception {
+        return mockMvc.perform(get(uri).header(HttpHeaders.IF_NONE_MATCH, eTag)).andReturn();
+    }
+
+    private long statementsOf(MvcResult result) {
+        return (Long) result.getRequest().getAttribute(SqlStatementCountFilter.STATEMENTS_ATTRIBUTE);
+    }
+}
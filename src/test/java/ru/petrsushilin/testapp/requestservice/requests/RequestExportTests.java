@@ -0,0 +1,140 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestResponseDTO;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.users.User;
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RequestExportTests {
+    private static final LocalDate FIRST_DAY = LocalDate.of(2026, 1, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Long authorID;
+    private Long otherAuthorID;
+
+    @BeforeAll
+    void seed() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User author = persistUser("exporter", "Export");
+            User other = persistUser("other-exporter", "Other");
+            // one request a day, stages alternate between draft and submitted
+            for (int day = 0; day < 10; day++)
+                persistRequest(author, FIRST_DAY.plusDays(day), day % 2 == 0 ? Stage.DRAFT : Stage.SUBMITTED,
+                        "request, \"" + day + "\"");
+            persistRequest(other, FIRST_DAY, Stage.SUBMITTED, "other");
+
+            authorID = author.getId();
+            otherAuthorID = other.getId();
+        });
+    }
+
+    @Test
+    @WithMockUser(roles = "OPERATOR")
+    void operatorExportsFilteredNdjsonInDateOrder() throws Exception {
+        String body = mockMvc.perform(get("/request/export")
+                        .param("stage", "SUBMITTED")
+                        .param("userID", String.valueOf(authorID))
+                        .param("from", FIRST_DAY.plusDays(2).toString())
+                        .param("to", FIRST_DAY.plusDays(7).toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        List<RequestResponseDTO> requests = new ArrayList<>();
+        for (String line : body.split("\n"))
+            requests.add(objectMapper.readValue(line, RequestResponseDTO.class));
+
+        assertThat(requests).extracting(RequestResponseDTO::getCreatedAt)
+                .containsExactly(FIRST_DAY.plusDays(3), FIRST_DAY.plusDays(5), FIRST_DAY.plusDays(7));
+        assertThat(requests).extracting(RequestResponseDTO::getStage).containsOnly("SUBMITTED");
+        assertThat(requests.get(0).getDescription()).isEqualTo("r-e-q-u-e-s-t-,- -\"-3-\"");
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void userExportsOwnRequestsAsCsv() throws Exception {
+        String body = mockMvc.perform(get("/request/export")
+                        .param("format", "csv")
+                        .param("userID", String.valueOf(otherAuthorID)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\r\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).isEqualTo("requestID,createdAt,userID,userName,userSurname,stage,description");
+        assertThat(lines[1]).endsWith("," + FIRST_DAY + "," + otherAuthorID + ",Name,Other,SUBMITTED,other");
+
+        String quoted = mockMvc.perform(get("/request/export")
+                        .param("format", "csv")
+                        .param("userID", String.valueOf(authorID))
+                        .param("to", FIRST_DAY.toString()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(quoted).endsWith(",DRAFT,\"request, \"\"0\"\"\"\r\n");
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void userCannotExportWithoutUserID() throws Exception {
+        mockMvc.perform(get("/request/export"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/request/export").param("userID", "1").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private User persistUser(String login, String surname) {
+        User user = new User();
+        user.setLogin(login);
+        user.setName("Name");
+        user.setSurname(surname);
+        user.setRoles(EnumSet.of(Role.USER));
+        entityManager.persist(user);
+        return user;
+    }
+
+    private void persistRequest(User user, LocalDate createdAt, Stage stage, String description) {
+        Request request = new Request();
+        request.setUser(user);
+        request.setCreatedAt(createdAt);
+        request.setStage(stage);
+        request.setDescription(description);
+        entityManager.persist(request);
+    }
+}
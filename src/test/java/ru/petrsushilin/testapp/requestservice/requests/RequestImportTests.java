@@ -0,0 +1,76 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.petrsushilin.testapp.requestservice.users.User;
+import ru.petrsushilin.testapp.requestservice.users.UserRepository;
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Import runs in chunks of two lines here, so valid lines are saved by several transactions.
+ */
+@SpringBootTest(properties = "app.import.chunkSize=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class RequestImportTests {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Test
+    void validLinesAreImportedAndInvalidReported() throws Exception {
+        User user = new User();
+        user.setLogin("importer");
+        user.setName("Name");
+        user.setSurname("Imported");
+        user.setRoles(EnumSet.of(Role.USER));
+        Long userID = userRepository.save(user).getId();
+
+        String body = String.join("\n",
+                "{\"userID\":" + userID + ",\"description\":\"first\"}",
+                "",
+                "{\"userID\":" + userID + ",\"description\":\"second\"}",
+                "{\"userID\":" + userID + ",",
+                "{\"userID\":-1,\"description\":\"nobody\"}",
+                "{\"userID\":" + userID + ",\"description\":\" \"}",
+                "{\"userID\":" + userID + ",\"description\":\"third\"}");
+
+        mockMvc.perform(post("/request/import")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lines").value(6))
+                .andExpect(jsonPath("$.imported").value(3))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.errors[0].line").value(4))
+                .andExpect(jsonPath("$.errors[0].message").value(startsWith("Line is not a request")))
+                .andExpect(jsonPath("$.errors[1].line").value(5))
+                .andExpect(jsonPath("$.errors[1].message").value("User with ID -1 not found"))
+                .andExpect(jsonPath("$.errors[2].line").value(6));
+
+        assertThat(requestRepository.findAll())
+                .filteredOn(request -> request.getUser().getId().equals(userID))
+                .extracting(Request::getDescription)
+                .containsExactlyInAnyOrder("first", "second", "third");
+    }
+}
@@ -0,0 +1,154 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.petrsushilin.testapp.requestservice.global.sql.SqlStatementCounter;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestPageDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestResponseDTO;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks on PostgreSQL, migrated by Flyway, that listing queries are served by the request listing indexes
+ * instead of a sequential scan and a sort. The explained SQL is the one Hibernate generates for the service,
+ * recorded by the statement inspector, with the values the service bound. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RequestIndexPlanTests {
+    @Container
+    // same image as compose.yaml, migrations need PostgreSQL 13 or later
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:14-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private RequestService requestService;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+    }
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (id, login, name, surname, search_name) " +
+                "SELECT id, 'login' || id, 'name' || id, 'surname' || id, 'name' || id || ' surname' || id " +
+                "FROM generate_series(1, 2000) AS id");
+        // one request in twenty is submitted, as in a working inbox
+        jdbcTemplate.update("INSERT INTO requests (id, created_at, user_id, stage, description, version) " +
+                "SELECT id, DATE '2024-01-01' + (id % 700), id % 2000 + 1, " +
+                "CASE WHEN id % 20 = 0 THEN 'SUBMITTED' WHEN id % 20 < 10 THEN 'APPROVED' ELSE 'DRAFT' END, 'text', 0 " +
+                "FROM generate_series(1, 200000) AS id");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void userListingUsesUserIndex() {
+        SqlStatementCounter.startRecording();
+        requestService.getUserRequests(42L, "reverse", 0);
+
+        assertThat(explain(listing(SqlStatementCounter.stopRecording()), 42, 6))
+                .contains("requests_user_created_index")
+                .doesNotContain("Seq Scan on requests", "Sort");
+    }
+
+    /**
+     * PostgreSQL is free to choose between the partial index of submitted requests and the stage index,
+     * both return the rows in page order.
+     */
+    @Test
+    void operatorListingUsesStageIndex() {
+        SqlStatementCounter.startRecording();
+        requestService.getOperatorRequests("forward", 0);
+
+        assertThat(explain(listing(SqlStatementCounter.stopRecording()), "SUBMITTED", 6))
+                .containsAnyOf("requests_submitted_created_index", "requests_stage_created_index")
+                .doesNotContain("Seq Scan on requests", "Sort");
+    }
+
+    @Test
+    void operatorKeysetPageSeeksIntoStageIndex() {
+        RequestPageDTO first = requestService.getOperatorRequestsByCursor("forward", null);
+        // Hibernate inlines the numeric ID of the cursor, the date is bound
+        RequestResponseDTO last = first.getContent().get(first.getContent().size() - 1);
+
+        SqlStatementCounter.startRecording();
+        requestService.getOperatorRequestsByCursor("forward", first.getNextCursor());
+
+        assertThat(explain(listing(SqlStatementCounter.stopRecording()),
+                "SUBMITTED", last.getCreatedAt(), last.getCreatedAt(), last.getCreatedAt(), 6))
+                .containsAnyOf("requests_submitted_created_index", "requests_stage_created_index")
+                .containsPattern("Index Cond: .*created_at >= ")
+                .doesNotContain("Seq Scan on requests", "Sort");
+    }
+
+    /**
+     * The only recorded statement which reads a page of requests.
+     */
+    private static String listing(List<String> statements) {
+        List<String> listings = statements.stream()
+                .map(String::toLowerCase)
+                .filter(sql -> sql.startsWith("select") && sql.contains(" from requests ") && sql.contains(" limit "))
+                .collect(Collectors.toList());
+        assertThat(listings).hasSize(1);
+        return listings.get(0);
+    }
+
+    /**
+     * Explains the statement as executed with the given values, PostgreSQL infers parameter types from the statement
+     * and plans the first executions of a prepared statement for the actual values, as it does for the driver.
+     * The values are in order of the JDBC placeholders, a wrong count fails the execution.
+     */
+    private String explain(String sql, Object... values) {
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?')
+                numbered.append('$').append(++parameter);
+            else
+                numbered.append(c);
+        }
+        String arguments = List.of(values).stream()
+                .map(value -> "'" + value + "'")
+                .collect(Collectors.joining(", "));
+
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PREPARE listing AS " + numbered);
+                try {
+                    List<String> plan = new ArrayList<>();
+                    try (ResultSet rows = statement.executeQuery("EXPLAIN EXECUTE listing(" + arguments + ")")) {
+                        while (rows.next())
+                            plan.add(rows.getString(1));
+                    }
+                    return String.join("\n", plan);
+                } finally {
+                    statement.execute("DEALLOCATE listing");
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,121 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.petrsushilin.testapp.requestservice.global.sql.SqlStatementCountFilter;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.users.User;
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Every listing must load requests with their authors in one statement,
+ * regardless of how many different authors are on the page.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@WithMockUser(roles = {"USER", "OPERATOR"})
+class RequestStatementCountTests {
+    private static final int AUTHORS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Long firstAuthorID;
+    private Long submittedRequestID;
+
+    @BeforeAll
+    void seed() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < AUTHORS; i++) {
+                User user = new User();
+                user.setLogin("statements" + i);
+                user.setName("Name" + i);
+                user.setSurname("Counted");
+                user.setRoles(EnumSet.of(Role.USER));
+                entityManager.persist(user);
+
+                Request request = new Request();
+                request.setUser(user);
+                request.setCreatedAt(LocalDate.now());
+                request.setStage(Stage.SUBMITTED);
+                request.setDescription("request of author " + i);
+                entityManager.persist(request);
+
+                if (i == 0) {
+                    firstAuthorID = user.getId();
+                    submittedRequestID = request.getId();
+                }
+            }
+        });
+    }
+
+    @Test
+    void operatorListingLoadsAuthorsWithRequests() throws Exception {
+        assertThat(statementsOf(get("/request/all-requests"))).isEqualTo(1);
+        assertThat(statementsOf(get("/request/all-requests/seek"))).isEqualTo(1);
+    }
+
+    @Test
+    void userListingLoadsAuthorWithRequests() throws Exception {
+        assertThat(statementsOf(get("/request/list/id{userID}", firstAuthorID))).isEqualTo(1);
+        assertThat(statementsOf(get("/request/list/id{userID}/seek", firstAuthorID))).isEqualTo(1);
+    }
+
+    @Test
+    void personSearchLoadsAuthorWithRequests() throws Exception {
+        assertThat(statementsOf(get("/request/requests/{name}", "Name0 Counted"))).isEqualTo(1);
+        assertThat(statementsOf(get("/request/requests/{name}/seek", "Name0 Counted"))).isEqualTo(1);
+    }
+
+    @Test
+    void singleRequestLoadsAuthorWithRequest() throws Exception {
+        assertThat(statementsOf(get("/request/{requestID}", submittedRequestID))).isEqualTo(1);
+    }
+
+    @Test
+    void batchApproveDoesNotDependOnBatchSize() throws Exception {
+        String body = "{\"requestIDs\":[" + (submittedRequestID + 1) + "," + (submittedRequestID + 2) + "," + (submittedRequestID + 3) + "]}";
+
+        // one stage lookup, one update and one outbox insert per chunk
+        assertThat(statementsOf(post("/request/approve/batch")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))).isLessThanOrEqualTo(3);
+    }
+
+    private long statementsOf(RequestBuilder requestBuilder) throws Exception {
+        MvcResult result = mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andReturn();
+        return (Long) result.getRequest().getAttribute(SqlStatementCountFilter.STATEMENTS_ATTRIBUTE);
+    }
+}
@@ -0,0 +1,185 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestBatchStageDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestCreationDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestSetStageDTO;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.users.User;
+import ru.petrsushilin.testapp.requestservice.users.UserRepository;
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Events are sent by sender threads, the response is polled until they arrive.
+ * Heartbeats are sent by the tests only.
+ */
+@SpringBootTest(properties = {
+        "app.requests.stream.heartbeat=PT1H",
+        "app.requests.stream.sendTimeout=300ms"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RequestStreamTests {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private RequestService requestService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RequestStreamBroadcaster broadcaster;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @WithMockUser(roles = "OPERATOR")
+    void committedTransitionsAreStreamed() throws Exception {
+        MvcResult result = mockMvc.perform(get("/request/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        Long userID = persistUser();
+        RequestCreationDTO creation = new RequestCreationDTO();
+        creation.setUserID(userID);
+        creation.setDescription("stream");
+        Long requestID = requestService.createRequest(creation).getRequestID();
+
+        RequestSetStageDTO submit = new RequestSetStageDTO();
+        submit.setRequestID(requestID);
+        submit.setUserID(userID);
+        submit.setCurrentStage(Stage.DRAFT.name());
+        requestService.submitRequest(submit);
+        // transitions are read after commit in the background, an already rejected request has no SUBMITTED event
+        awaitContent(result, "event:SUBMITTED");
+
+        RequestBatchStageDTO batch = new RequestBatchStageDTO();
+        batch.setRequestIDs(List.of(requestID));
+        requestService.rejectRequests(batch);
+
+        String body = awaitContent(result, "event:REJECTED");
+        assertThat(body)
+                .contains("id:" + requestID + ":SUBMITTED\nevent:SUBMITTED\ndata:{\"requestID\":" + requestID)
+                .contains("id:" + requestID + ":REJECTED\nevent:REJECTED\ndata:{\"requestID\":" + requestID)
+                .contains("s-t-r-e-a-m")
+                .doesNotContain("event:DRAFT");
+        assertThat(body.indexOf("event:SUBMITTED")).isLessThan(body.indexOf("event:REJECTED"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void streamIsForOperatorsOnly() throws Exception {
+        mockMvc.perform(get("/request/stream"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void stalledSubscriberIsDroppedWithoutDelayingOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        StalledEmitter stalled = new StalledEmitter(release);
+        CountingEmitter fast = new CountingEmitter();
+        double droppedBefore = meterRegistry.get("request.stream.dropped").counter().count();
+        try {
+            broadcaster.subscribe(stalled);
+            broadcaster.subscribe(fast);
+
+            broadcaster.heartbeat();
+            assertThat(stalled.entered.await(5, TimeUnit.SECONDS)).isTrue();
+            awaitSent(fast, 1);
+
+            Thread.sleep(400);
+            for (int i = 0; i < 3; i++)
+                broadcaster.heartbeat();
+
+            awaitSent(fast, 4);
+            assertThat(meterRegistry.get("request.stream.dropped").counter().count()).isEqualTo(droppedBefore + 1);
+            assertThat(stalled.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+            fast.complete();
+        }
+    }
+
+    private static void awaitSent(CountingEmitter emitter, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (emitter.sent.get() < expected && System.currentTimeMillis() < deadline)
+            Thread.sleep(10);
+        assertThat(emitter.sent.get()).isEqualTo(expected);
+    }
+
+    /**
+     * Blocks in the first write like a client whose TCP window stays closed.
+     */
+    private static final class StalledEmitter extends SseEmitter {
+        private final CountDownLatch release;
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        StalledEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+
+    private static final class CountingEmitter extends SseEmitter {
+        private final AtomicInteger sent = new AtomicInteger();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.incrementAndGet();
+        }
+    }
+
+    private String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String body = result.getResponse().getContentAsString();
+        while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = result.getResponse().getContentAsString();
+        }
+        return body;
+    }
+
+    private Long persistUser() {
+        User user = new User();
+        user.setLogin("stream.user");
+        user.setName("Stream");
+        user.setSurname("User");
+        user.setRoles(EnumSet.of(Role.USER));
+        return userRepository.save(user).getId();
+    }
+}
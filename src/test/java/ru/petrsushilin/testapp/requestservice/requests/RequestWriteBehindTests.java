@@ -0,0 +1,101 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import ru.petrsushilin.testapp.requestservice.global.exceptions.IdentifierMismatchException;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestCreationDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestResponseDTO;
+import ru.petrsushilin.testapp.requestservice.users.User;
+import ru.petrsushilin.testapp.requestservice.users.UserRepository;
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Concurrent creations wait for the writer long enough here to be saved by a few transactions.
+ */
+@SpringBootTest(properties = {
+        "app.requests.writeBehind.enabled=true",
+        "app.requests.writeBehind.maxLatency=200ms"
+})
+@ActiveProfiles("test")
+class RequestWriteBehindTests {
+    private static final int REQUESTS = 20;
+
+    @Autowired
+    private RequestService requestService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void concurrentRequestsAreSavedInBatches() throws Exception {
+        Long userID = userRepository.save(newUser()).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        List<Future<RequestResponseDTO>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                RequestCreationDTO creationDTO = new RequestCreationDTO();
+                creationDTO.setUserID(userID);
+                creationDTO.setDescription("write-behind " + i);
+                futures.add(executor.submit(() -> requestService.createRequest(creationDTO)));
+            }
+
+            List<RequestResponseDTO> created = new ArrayList<>();
+            for (Future<RequestResponseDTO> future : futures)
+                created.add(future.get());
+
+            assertThat(created).extracting(RequestResponseDTO::getRequestID).doesNotContainNull().doesNotHaveDuplicates();
+            assertThat(created).extracting(RequestResponseDTO::getUserSurname).containsOnly("Behind");
+            assertThat(created).extracting(RequestResponseDTO::getStage).containsOnly("DRAFT");
+        } finally {
+            executor.shutdown();
+        }
+
+        double transactions = meterRegistry.get("request.writebehind.batch.size").summary().count();
+        assertThat(transactions).isLessThan(REQUESTS);
+    }
+
+    @Test
+    void unknownAuthorIsRejected() {
+        RequestCreationDTO creationDTO = new RequestCreationDTO();
+        creationDTO.setUserID(-1L);
+        creationDTO.setDescription("nobody");
+
+        assertThatThrownBy(() -> requestService.createRequest(creationDTO))
+                .isInstanceOf(IdentifierMismatchException.class);
+    }
+
+    @Test
+    void invalidRequestIsRejectedBeforeQueueing() {
+        RequestCreationDTO creationDTO = new RequestCreationDTO();
+        creationDTO.setUserID(-1L);
+        creationDTO.setDescription("x".repeat(256));
+
+        assertThatThrownBy(() -> requestService.createRequest(creationDTO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("255");
+    }
+
+    private User newUser() {
+        User user = new User();
+        user.setLogin("write-behind");
+        user.setName("Write");
+        user.setSurname("Behind");
+        user.setRoles(EnumSet.of(Role.USER));
+        return user;
+    }
+}
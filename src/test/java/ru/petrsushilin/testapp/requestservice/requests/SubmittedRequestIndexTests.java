@@ -0,0 +1,178 @@
+package ru.petrsushilin.testapp.requestservice.requests;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.petrsushilin.testapp.requestservice.global.sql.SqlStatementCounter;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestBatchStageDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestResponseDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestSetStageDTO;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.users.User;
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.requests.submittedIndex.enabled=true")
+@ActiveProfiles("test")
+class SubmittedRequestIndexTests {
+    @Autowired
+    private SubmittedRequestIndex submittedRequestIndex;
+    @Autowired
+    private RequestService requestService;
+    @Autowired
+    private RequestRepository requestRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private User author;
+
+    @BeforeEach
+    void seed() {
+        author = new TransactionTemplate(transactionManager).execute(status -> {
+            User user = new User();
+            user.setLogin("index" + System.nanoTime());
+            user.setName("Indexed");
+            user.setSurname("Author");
+            user.setRoles(EnumSet.of(Role.USER));
+            entityManager.persist(user);
+            for (int i = 0; i < 12; i++)
+                persistRequest(user, i % 3 == 0 ? Stage.DRAFT : Stage.SUBMITTED, i);
+            return user;
+        });
+        submittedRequestIndex.rebuild();
+    }
+
+    @Test
+    void pagesMatchDatabaseWithoutStatements() {
+        for (String sort : List.of("default", "reverse")) {
+            SqlStatementCounter.start();
+            List<Long> indexed = ids(requestService.getOperatorRequests(sort, 1).getContent());
+            assertThat(SqlStatementCounter.stop()).isZero();
+
+            assertThat(indexed).isEqualTo(databasePage(sort, 1));
+        }
+    }
+
+    @Test
+    void committedStageChangesAreApplied() throws InterruptedException {
+        Long draftID = findIDs(Stage.DRAFT).get(0);
+        RequestSetStageDTO submit = new RequestSetStageDTO();
+        submit.setRequestID(draftID);
+        submit.setUserID(author.getId());
+        submit.setCurrentStage(Stage.DRAFT.name());
+        requestService.submitRequest(submit);
+
+        RequestBatchStageDTO approve = new RequestBatchStageDTO();
+        approve.setRequestIDs(findIDs(Stage.SUBMITTED).subList(0, 3));
+        requestService.approveRequests(approve);
+
+        awaitIndexMatchesDatabase();
+    }
+
+    @Test
+    void verificationRebuildsAfterChangesBehindItsBack() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> entityManager
+                .createQuery("UPDATE Request r SET r.stage = :stage WHERE r.user.id = :userID")
+                .setParameter("stage", Stage.REJECTED)
+                .setParameter("userID", author.getId())
+                .executeUpdate());
+
+        submittedRequestIndex.verify();
+
+        assertIndexMatchesDatabase();
+    }
+
+    @Test
+    void verificationRebuildsAfterDescriptionChangesBehindItsBack() {
+        Long submittedID = findIDs(Stage.SUBMITTED).get(0);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> entityManager
+                .createQuery("UPDATE Request r SET r.description = 'changed', r.version = r.version + 1 WHERE r.id = :id")
+                .setParameter("id", submittedID)
+                .executeUpdate());
+
+        submittedRequestIndex.verify();
+
+        assertThat(indexedDescription(submittedID)).isEqualTo("changed");
+    }
+
+    /**
+     * Committed changes are applied by the refresh thread.
+     */
+    private void awaitIndexMatchesDatabase() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!indexMatchesDatabase() && System.currentTimeMillis() < deadline)
+            Thread.sleep(20);
+        assertIndexMatchesDatabase();
+    }
+
+    private String indexedDescription(Long requestID) {
+        Slice<RequestResponseDTO> page = submittedRequestIndex.getPage(0, 50, Sort.by("createdAt"));
+        while (true) {
+            for (RequestResponseDTO request : page.getContent())
+                if (request.getRequestID().equals(requestID))
+                    return request.getDescription();
+            if (!page.hasNext())
+                return null;
+            page = submittedRequestIndex.getPage(page.getNumber() + 1, 50, Sort.by("createdAt"));
+        }
+    }
+
+    private boolean indexMatchesDatabase() {
+        int pages = findIDs(Stage.SUBMITTED).size() / 5 + 1;
+        for (int page = 0; page < pages; page++)
+            if (!ids(requestService.getOperatorRequests("default", page).getContent()).equals(databasePage("default", page)))
+                return false;
+        return true;
+    }
+
+    private void assertIndexMatchesDatabase() {
+        int pages = findIDs(Stage.SUBMITTED).size() / 5 + 1;
+        for (int page = 0; page < pages; page++)
+            assertThat(ids(requestService.getOperatorRequests("default", page).getContent()))
+                    .isEqualTo(databasePage("default", page));
+    }
+
+    private List<Long> databasePage(String sort, int page) {
+        Sort.Direction direction = sort.equals("reverse") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return ids(requestRepository.findRequestsByStage(Stage.SUBMITTED,
+                PageRequest.of(page, 5, Sort.by(direction, "createdAt", "id"))).getContent());
+    }
+
+    private List<Long> findIDs(Stage stage) {
+        return new TransactionTemplate(transactionManager).execute(status -> entityManager
+                .createQuery("SELECT r.id FROM Request r WHERE r.user.id = :userID AND r.stage = :stage ORDER BY r.id", Long.class)
+                .setParameter("userID", author.getId())
+                .setParameter("stage", stage)
+                .getResultList());
+    }
+
+    private void persistRequest(User user, Stage stage, int daysAgo) {
+        Request request = new Request();
+        request.setUser(user);
+        request.setCreatedAt(LocalDate.now().minusDays(daysAgo % 4));
+        request.setStage(stage);
+        request.setDescription("indexed " + daysAgo);
+        entityManager.persist(request);
+    }
+
+    private static List<Long> ids(List<RequestResponseDTO> requests) {
+        return requests.stream().map(RequestResponseDTO::getRequestID).collect(Collectors.toList());
+    }
+}
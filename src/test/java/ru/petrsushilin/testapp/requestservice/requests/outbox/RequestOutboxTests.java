@@ -0,0 +1,104 @@
+package ru.petrsushilin.testapp.requestservice.requests.outbox;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import ru.petrsushilin.testapp.requestservice.requests.RequestService;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestBatchStageDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestCreationDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestSetStageDTO;
+import ru.petrsushilin.testapp.requestservice.requests.dto.RequestStageEventDTO;
+import ru.petrsushilin.testapp.requestservice.requests.enums.Stage;
+import ru.petrsushilin.testapp.requestservice.users.User;
+import ru.petrsushilin.testapp.requestservice.users.UserRepository;
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * The relay is called directly, the scheduled poll does not run during the tests.
+ */
+@SpringBootTest(properties = {
+        "app.outbox.relay.enabled=true",
+        "app.outbox.pollInterval=PT1H"
+})
+@ActiveProfiles("test")
+class RequestOutboxTests {
+    @Autowired
+    private RequestService requestService;
+    @Autowired
+    private RequestOutboxRelay relay;
+    @Autowired
+    private RequestStageEventRepository eventRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @SpyBean
+    private InMemoryRequestEventSink sink;
+
+    @Test
+    void transitionsArePublishedInOrderAndRemoved() {
+        Long userID = persistUser("outbox.user");
+        Long requestID = createSubmittedRequest(userID);
+        RequestBatchStageDTO batch = new RequestBatchStageDTO();
+        batch.setRequestIDs(List.of(requestID));
+        requestService.approveRequests(batch);
+
+        relay.relay();
+
+        assertThat(eventsOf(requestID)).containsExactly("DRAFT->SUBMITTED", "SUBMITTED->APPROVED");
+        assertThat(eventRepository.count()).isZero();
+    }
+
+    @Test
+    void failedBatchIsPublishedAgain() {
+        Long requestID = createSubmittedRequest(persistUser("outbox.retry"));
+
+        doThrow(new IllegalStateException("sink is down")).when(sink).publish(anyList());
+        assertThat(relay.relay()).isZero();
+        assertThat(eventRepository.count()).isPositive();
+
+        doCallRealMethod().when(sink).publish(anyList());
+        assertThat(relay.relay()).isPositive();
+        assertThat(eventsOf(requestID)).containsExactly("DRAFT->SUBMITTED");
+        assertThat(eventRepository.count()).isZero();
+    }
+
+    private List<String> eventsOf(Long requestID) {
+        return sink.getEvents().stream()
+                .filter(event -> event.getRequestID().equals(requestID))
+                .map(event -> event.getFromStage() + "->" + event.getToStage())
+                .collect(Collectors.toList());
+    }
+
+    private Long createSubmittedRequest(Long userID) {
+        RequestCreationDTO creation = new RequestCreationDTO();
+        creation.setUserID(userID);
+        creation.setDescription("outbox");
+        Long requestID = requestService.createRequest(creation).getRequestID();
+
+        RequestSetStageDTO submit = new RequestSetStageDTO();
+        submit.setRequestID(requestID);
+        submit.setUserID(userID);
+        submit.setCurrentStage(Stage.DRAFT.name());
+        requestService.submitRequest(submit);
+        return requestID;
+    }
+
+    private Long persistUser(String login) {
+        User user = new User();
+        user.setLogin(login);
+        user.setName("Outbox");
+        user.setSurname(login);
+        user.setRoles(EnumSet.of(Role.USER));
+        return userRepository.save(user).getId();
+    }
+}
@@ -0,0 +1,26 @@
+package ru.petrsushilin.testapp.requestservice.users;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class PersonNameQueryTests {
+
+    @Test
+    void normalizesCaseWhitespaceAndYo() {
+        assertThat(PersonNameQuery.normalize("  Пётр\t  СУШИЛИН ")).isEqualTo("петр сушилин");
+        assertThat(PersonNameQuery.searchName("Petr", null)).isEqualTo("petr");
+    }
+
+    @Test
+    void splitsIntoLimitedTokens() {
+        assertThat(PersonNameQuery.parse(" Sushilin   Petr ").getTokens()).containsExactly("sushilin", "petr");
+        assertThat(PersonNameQuery.parse("a b c d e").getTokens()).hasSize(PersonNameQuery.MAX_TOKENS);
+    }
+
+    @Test
+    void rejectsBlankName() {
+        assertThatIllegalArgumentException().isThrownBy(() -> PersonNameQuery.parse(" \t "));
+    }
+}
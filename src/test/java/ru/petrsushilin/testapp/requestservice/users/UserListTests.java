@@ -0,0 +1,118 @@
+package ru.petrsushilin.testapp.requestservice.users;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.petrsushilin.testapp.requestservice.global.sql.SqlStatementCountFilter;
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pages of users are read with one statement for users and one for roles of all of them.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@WithMockUser(roles = "ADMIN")
+class UserListTests {
+    private static final int USERS = 7;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeAll
+    void seed() {
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setLogin("listed" + i);
+            user.setName("Name" + i);
+            user.setSurname("Listed");
+            user.setRoles(i % 2 == 0 ? EnumSet.of(Role.USER) : EnumSet.of(Role.USER, Role.OPERATOR));
+            userRepository.save(user);
+        }
+    }
+
+    @Test
+    void pagesFollowEachOtherByID() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        long after = 0;
+        boolean hasMore = true;
+        while (hasMore) {
+            MvcResult result = mockMvc.perform(get("/users/list").param("after", String.valueOf(after)))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            assertThat((Long) result.getRequest().getAttribute(SqlStatementCountFilter.STATEMENTS_ATTRIBUTE)).isEqualTo(2);
+
+            JsonNode page = objectMapper.readTree(result.getResponse().getContentAsString());
+            for (JsonNode user : page) {
+                ids.add(user.get("userID").asLong());
+                assertThat(user.get("roles").size()).isPositive();
+                after = user.get("userID").asLong();
+            }
+            hasMore = Boolean.parseBoolean(result.getResponse().getHeader("X-Has-More"));
+        }
+
+        assertThat(ids).isSorted().doesNotHaveDuplicates().hasSizeGreaterThanOrEqualTo(USERS);
+    }
+
+    @Test
+    void searchAndPromotionReturnUsersWithoutEntityFields() throws Exception {
+        MvcResult result = mockMvc.perform(get("/users/{name}", "name1 listed"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat((Long) result.getRequest().getAttribute(SqlStatementCountFilter.STATEMENTS_ATTRIBUTE)).isEqualTo(2);
+
+        JsonNode found = objectMapper.readTree(result.getResponse().getContentAsString()).get(0);
+        assertThat(found.get("login").asText()).isEqualTo("listed1");
+        assertThat(found.get("roles")).extracting(JsonNode::asText).containsExactlyInAnyOrder("USER", "OPERATOR");
+        assertThat(found.has("searchName")).isFalse();
+        assertThat(found.has("password")).isFalse();
+
+        long userID = objectMapper.readTree(mockMvc.perform(get("/users/{name}", "name0 listed"))
+                .andReturn().getResponse().getContentAsString()).get(0).get("userID").asLong();
+        JsonNode promoted = objectMapper.readTree(mockMvc.perform(post("/users/{userID}", userID))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+        assertThat(promoted.get("userID").asLong()).isEqualTo(userID);
+        assertThat(promoted.get("roles")).extracting(JsonNode::asText).containsExactly("USER", "OPERATOR");
+    }
+
+    @Test
+    void dumpWritesEveryUserWithRoles() throws Exception {
+        String body = mockMvc.perform(get("/users/list/stream"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<JsonNode> listed = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            JsonNode user = objectMapper.readTree(line);
+            if (user.get("surname").asText().equals("Listed"))
+                listed.add(user);
+        }
+
+        assertThat(listed).hasSize(USERS);
+        assertThat(listed.get(1).get("roles")).extracting(JsonNode::asText).containsExactlyInAnyOrder("USER", "OPERATOR");
+    }
+}
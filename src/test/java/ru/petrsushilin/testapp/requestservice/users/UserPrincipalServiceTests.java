@@ -0,0 +1,87 @@
+package ru.petrsushilin.testapp.requestservice.users;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.petrsushilin.testapp.requestservice.global.sql.SqlStatementCounter;
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Principals are authenticated against users of the database and cached until roles change.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserPrincipalServiceTests {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserPrincipalService userPrincipalService;
+
+    private User user;
+
+    @BeforeAll
+    void seed() {
+        user = new User();
+        user.setLogin("principal.user");
+        user.setPassword("{noop}secret");
+        user.setName("Principal");
+        user.setSurname("User");
+        user.setRoles(EnumSet.of(Role.USER));
+        user = userRepository.save(user);
+    }
+
+    @Test
+    void httpBasicChecksPasswordAndRoles() throws Exception {
+        mockMvc.perform(get("/request/export").param("userID", user.getId().toString())
+                        .with(httpBasic("principal.user", "secret")))
+                .andExpect(status().isOk());
+        // credentials of the cached principal are not erased by the previous login
+        mockMvc.perform(get("/request/export").param("userID", user.getId().toString())
+                        .with(httpBasic("principal.user", "secret")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/request/export").with(httpBasic("principal.user", "wrong")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/users/list").with(httpBasic("principal.user", "secret")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void principalIsCachedUntilPromotion() {
+        assertThat(authorities()).containsExactly(Role.USER.getAuthority());
+
+        SqlStatementCounter.start();
+        assertThat(authorities()).containsExactly(Role.USER.getAuthority());
+        assertThat(SqlStatementCounter.stop()).isZero();
+
+        userService.promoteToOperator(user.getId());
+        assertThat(authorities()).containsExactlyInAnyOrder(Role.USER.getAuthority(), Role.OPERATOR.getAuthority());
+    }
+
+    private Set<String> authorities() {
+        return userPrincipalService.loadUserByUsername("principal.user").getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,72 @@
+package ru.petrsushilin.testapp.requestservice.users;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import ru.petrsushilin.testapp.requestservice.users.enums.Role;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserSearchTests {
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeAll
+    void seed() {
+        userRepository.saveAll(List.of(
+                user("search.1", "Petr", "Sushilin"),
+                user("search.2", "Petrov", "Ivan"),
+                user("search.3", "Ivan", "Ospetrovsky"),
+                user("search.4", "Anna", "Sushilina"),
+                user("search.5", "Petr_", "Percent%")));
+    }
+
+    @Test
+    void ranksWholeWordsThenPrefixesThenParts() {
+        assertThat(logins("petr")).containsExactly("search.1", "search.2", "search.5", "search.3");
+    }
+
+    @Test
+    void matchesAnyOrderAndCase() {
+        assertThat(logins("  SUSHILIN   petr")).containsExactly("search.1");
+        assertThat(logins("sushil")).containsExactly("search.1", "search.4");
+    }
+
+    @Test
+    void escapesLikeWildcards() {
+        assertThat(logins("percent%")).containsExactly("search.5");
+        assertThat(logins("_")).containsExactly("search.5");
+    }
+
+    @Test
+    void pagesRankedResults() {
+        assertThat(userRepository.searchByName(PersonNameQuery.parse("petr"), PageRequest.of(1, 3))
+                .map(User::getLogin).getContent()).containsExactly("search.3");
+    }
+
+    private List<String> logins(String fullName) {
+        return userRepository.searchByName(PersonNameQuery.parse(fullName), PageRequest.of(0, 10)).stream()
+                .map(User::getLogin)
+                .collect(Collectors.toList());
+    }
+
+    private static User user(String login, String name, String surname) {
+        User user = new User();
+        user.setLogin(login);
+        user.setName(name);
+        user.setSurname(surname);
+        user.setRoles(EnumSet.of(Role.USER));
+        return user;
+    }
+}